@@ -0,0 +1,83 @@
+// 혼합 부하 테스트 (k6)
+//
+// 느린 blocking 요청(/evaluate, 장식 추가)이 섞여 있을 때
+// 가벼운 GET /tree/{uuid} 처리량 / 지연이 유지되는지 확인한다.
+//
+// 실행 예시
+//   # platform thread (before)
+//   java -jar demo-backend.jar --spring.threads.virtual.enabled=false
+//   k6 run -e BASE_URL=http://localhost:8080 -e TREE_UUID=<uuid> -e EVAL_IMAGE_KEY=eval/tmp/xxx.png loadtest/mixed-workload.js
+//
+//   # virtual thread (after)
+//   java -jar demo-backend.jar --spring.threads.virtual.enabled=true
+//   k6 run ... (동일)
+//
+// /evaluate 는 OpenAI 호출과 선착순 한도를 소모하므로 스텁 서버(openai.base-url)로 돌릴 것.
+// 비교 지표: http_req_duration{scenario:reads} p95/p99, http_reqs{scenario:reads} rate
+
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const TREE_UUID = __ENV.TREE_UUID;
+const EVAL_IMAGE_KEY = __ENV.EVAL_IMAGE_KEY || 'eval/tmp/loadtest.png';
+
+// 32×32 투명 PNG
+const DECORATION_PNG =
+    'data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAACAAAAAgCAYAAABzenr0AAAAGklEQVR42u3BAQEAAACCIP+vbkhAAQAAAO8GECAAAcm1w7EAAAAASUVORK5CYII=';
+
+export const options = {
+    scenarios: {
+        // 공유 링크 방문자: 대부분의 트래픽
+        reads: {
+            executor: 'constant-arrival-rate',
+            exec: 'readTree',
+            rate: 2000,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 200,
+            maxVUs: 2000,
+        },
+        // 느린 평가 요청이 요청 스레드를 오래 점유
+        evaluations: {
+            executor: 'constant-vus',
+            exec: 'evaluate',
+            vus: 300,
+            duration: '2m',
+        },
+        // 장식 추가 (S3 업로드 + Redis)
+        decorations: {
+            executor: 'constant-arrival-rate',
+            exec: 'addDecoration',
+            rate: 20,
+            timeUnit: '1s',
+            duration: '2m',
+            preAllocatedVUs: 50,
+        },
+    },
+    thresholds: {
+        'http_req_duration{scenario:reads}': ['p(99)<200'],
+    },
+};
+
+export function readTree() {
+    const res = http.get(`${BASE_URL}/tree/${TREE_UUID}`);
+    check(res, { 'read 200': (r) => r.status === 200 });
+}
+
+export function evaluate() {
+    http.post(
+        `${BASE_URL}/tree/${TREE_UUID}/evaluate?mode=mild`,
+        JSON.stringify({ imageKey: EVAL_IMAGE_KEY }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+}
+
+export function addDecoration() {
+    // 10개 제한에 걸리면 400 — 업로드 경로 부하만 보면 되므로 상태 코드는 확인하지 않음
+    http.post(
+        `${BASE_URL}/tree/${TREE_UUID}/decorations`,
+        JSON.stringify({ imageBase64: DECORATION_PNG, authorName: 'loadtest' }),
+        { headers: { 'Content-Type': 'application/json' } },
+    );
+}
@@ -1,7 +1,9 @@
 package com.gathertree.demo.ai.controller;
 
+import com.gathertree.demo.ai.dto.EvaluationJobResponse;
 import com.gathertree.demo.ai.dto.TreeEvaluationRequest;
 import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
+import com.gathertree.demo.ai.service.AiEvaluationJobService;
 import com.gathertree.demo.ai.service.AiEvaluationService;
 import com.gathertree.demo.global.response.ApiResult;
 import com.gathertree.demo.tree.model.Tree;
@@ -14,6 +16,9 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 @Tag(
@@ -21,12 +26,14 @@ import org.springframework.web.bind.annotation.*;
         description = "트리 AI 평가 API"
 )
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/tree")
 @RequiredArgsConstructor
 public class AiEvaluationController {
 
     private final TreeService treeService;
     private final AiEvaluationService aiEvaluationService;
+    private final AiEvaluationJobService aiEvaluationJobService;
 
     @Operation(
             summary = "트리 AI 평가",
@@ -39,8 +46,8 @@ public class AiEvaluationController {
             - 같은 트리 + 같은 평가 모드(mild/spicy)는 캐시된 결과를 반환합니다.
             
             ▶ 평가 이미지
-            - 프론트엔드에서 Canvas로 합성한 최종 트리 이미지 URL을 전달해야 합니다.
-            - 해당 이미지는 외부(OpenAI)에서 접근 가능한 public URL이어야 합니다.
+            - imageKey를 생략하면 서버가 base / 장식 이미지로 최종 트리 이미지를 합성합니다. (권장)
+            - imageKey를 보내면 eval/tmp/에 업로드된 이미지를 사용합니다.
             """
     )
     @ApiResponse(
@@ -77,7 +84,7 @@ public class AiEvaluationController {
             @RequestParam String mode,
 
             @Valid
-            @RequestBody TreeEvaluationRequest request
+            @RequestBody(required = false) TreeEvaluationRequest request
     ) {
         Tree tree = treeService.getTreeEntity(uuid);
 
@@ -85,8 +92,75 @@ public class AiEvaluationController {
                 aiEvaluationService.evaluate(
                         tree,
                         mode,
-                        request.getImageKey()
+                        request == null ? null : request.getImageKey()
                 )
         );
     }
+
+    @Operation(
+            summary = "트리 AI 평가 (비동기)",
+            description = """
+            AI 평가 작업을 등록하고 즉시 작업 ID를 반환합니다.
+            
+            ▶ 평가 조건은 동기 평가와 동일하며, 조건 미충족 시 즉시 400을 반환합니다.
+            
+            ▶ 결과 수신
+            - GET /tree/{uuid}/evaluate/{jobId} 폴링
+            - 또는 GET /tree/{uuid}/events SSE의 evaluation-completed / evaluation-failed 이벤트
+            """
+    )
+    @ApiResponse(
+            responseCode = "202",
+            description = "평가 작업 등록 (캐시된 결과가 있으면 DONE 상태로 반환)",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = EvaluationJobResponse.class)
+            )
+    )
+    @PostMapping(value = "/{uuid}/evaluate", params = "async=true")
+    public ResponseEntity<ApiResult<EvaluationJobResponse>> evaluateTreeAsync(
+            @PathVariable String uuid,
+
+            @Parameter(
+                    description = "평가 모드",
+                    schema = @Schema(
+                            allowableValues = {"mild", "spicy"},
+                            example = "mild"
+                    )
+            )
+            @RequestParam String mode,
+
+            @Valid
+            @RequestBody(required = false) TreeEvaluationRequest request
+    ) {
+        Tree tree = treeService.getTreeEntity(uuid);
+
+        return ResponseEntity
+                .status(HttpStatus.ACCEPTED)
+                .body(ApiResult.onSuccess(
+                        aiEvaluationJobService.enqueue(
+                                tree,
+                                mode,
+                                request == null ? null : request.getImageKey()
+                        )
+                ));
+    }
+
+    @Operation(
+            summary = "AI 평가 작업 조회",
+            description = "비동기 평가 작업의 상태와 결과를 조회합니다. (작업은 1시간 후 만료)"
+    )
+    @ApiResponse(
+            responseCode = "404",
+            description = "평가 작업을 찾을 수 없음"
+    )
+    @GetMapping("/{uuid}/evaluate/{jobId}")
+    public ApiResult<EvaluationJobResponse> getEvaluationJob(
+            @PathVariable String uuid,
+            @PathVariable String jobId
+    ) {
+        return ApiResult.onSuccess(
+                aiEvaluationJobService.getJob(uuid, jobId)
+        );
+    }
 }
@@ -0,0 +1,38 @@
+package com.gathertree.demo.ai.dto;
+
+import com.gathertree.demo.ai.model.EvaluationJob;
+import com.gathertree.demo.ai.model.EvaluationJobStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "비동기 AI 평가 작업 상태")
+public class EvaluationJobResponse {
+
+    @Schema(description = "평가 작업 ID")
+    private String jobId;
+
+    @Schema(description = "작업 상태 (PENDING | RUNNING | DONE | FAILED)", example = "PENDING")
+    private EvaluationJobStatus status;
+
+    @Schema(description = "평가 결과 (DONE일 때만 존재)")
+    private TreeEvaluationResponse result;
+
+    @Schema(description = "실패 코드 (FAILED일 때만 존재)", example = "AI_5000")
+    private String errorCode;
+
+    @Schema(description = "실패 사유 (FAILED일 때만 존재)")
+    private String errorMessage;
+
+    public static EvaluationJobResponse from(EvaluationJob job) {
+        return EvaluationJobResponse.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .result(job.getResult())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .build();
+    }
+}
@@ -1,7 +1,6 @@
 package com.gathertree.demo.ai.dto;
 
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
 import lombok.Getter;
 
 @Getter
@@ -10,12 +9,13 @@ public class TreeEvaluationRequest {
 
     @Schema(
             description = """
-            S3에 업로드된 트리 이미지 object key
+            S3에 업로드된 트리 이미지 object key (선택)
+            
+            생략하면 저장된 base / 장식 이미지로 서버에서 합성합니다.
             
             예시:
             - eval/tmp/abcd-1234.png
             """
     )
-    @NotBlank(message = "평가할 이미지 key는 필수입니다.")
     private String imageKey;
 }
@@ -0,0 +1,32 @@
+package com.gathertree.demo.ai.model;
+
+import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 비동기 AI 평가 작업
+ * - Redis ai:evaluation:job:{jobId} 에 JSON으로 저장
+ */
+@Getter
+@Builder(toBuilder = true)
+public class EvaluationJob {
+
+    private String jobId;
+    private String uuid;
+    private String mode;
+    private String imageKey;
+    private EvaluationJobStatus status;
+
+    // DONE
+    private TreeEvaluationResponse result;
+
+    // FAILED
+    private String errorCode;
+    private String errorMessage;
+
+    private LocalDateTime createdAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,8 @@
+package com.gathertree.demo.ai.model;
+
+public enum EvaluationJobStatus {
+    PENDING,
+    RUNNING,
+    DONE,
+    FAILED
+}
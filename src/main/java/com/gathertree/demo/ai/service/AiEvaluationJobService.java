@@ -0,0 +1,117 @@
+package com.gathertree.demo.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.ai.dto.EvaluationJobResponse;
+import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
+import com.gathertree.demo.ai.model.EvaluationJob;
+import com.gathertree.demo.ai.model.EvaluationJobStatus;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 비동기 AI 평가 작업 관리
+ * - 작업 상태: ai:evaluation:job:{jobId} (JSON)
+ * - 대기열: ai:evaluation:jobs (LPUSH → 워커가 BLMOVE로 처리 목록에 옮긴 뒤 처리)
+ */
+@Service
+@RequiredArgsConstructor
+public class AiEvaluationJobService {
+
+    /* =========================
+       Constants
+       ========================= */
+    static final String QUEUE_KEY = "ai:evaluation:jobs";
+    private static final String JOB_KEY_PREFIX = "ai:evaluation:job:";
+
+    /* =========================
+       Dependencies
+       ========================= */
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final AiEvaluationService aiEvaluationService;
+
+    @Value("${gathertree.ai.evaluation.job-ttl-seconds:3600}")
+    private long jobTtlSeconds;
+
+    /**
+     * 평가 작업 등록
+     * - 검증 실패는 즉시 예외
+     * - 이미 캐시된 결과가 있으면 DONE 상태로 바로 반환
+     */
+    public EvaluationJobResponse enqueue(Tree tree, String mode, String imageKey) {
+        aiEvaluationService.validate(tree, mode, imageKey);
+
+        EvaluationJob.EvaluationJobBuilder job = EvaluationJob.builder()
+                .jobId(UUID.randomUUID().toString())
+                .uuid(tree.getUuid())
+                .mode(mode)
+                .imageKey(imageKey)
+                .createdAt(LocalDateTime.now());
+
+        TreeEvaluationResponse cached = aiEvaluationService.getCachedResult(tree.getUuid(), mode);
+        if (cached != null) {
+            EvaluationJob done = job
+                    .status(EvaluationJobStatus.DONE)
+                    .result(cached)
+                    .completedAt(LocalDateTime.now())
+                    .build();
+            save(done);
+            return EvaluationJobResponse.from(done);
+        }
+
+        EvaluationJob pending = job.status(EvaluationJobStatus.PENDING).build();
+        save(pending);
+        redisTemplate.opsForList().leftPush(QUEUE_KEY, pending.getJobId());
+
+        return EvaluationJobResponse.from(pending);
+    }
+
+    /**
+     * 작업 조회 (다른 트리의 작업은 없는 것으로 취급)
+     */
+    public EvaluationJobResponse getJob(String uuid, String jobId) {
+        return findJob(jobId)
+                .filter(job -> job.getUuid().equals(uuid))
+                .map(EvaluationJobResponse::from)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.EVALUATION_JOB_NOT_FOUND));
+    }
+
+    Optional<EvaluationJob> findJob(String jobId) {
+        String json = redisTemplate.opsForValue().get(jobKey(jobId));
+        if (json == null) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(objectMapper.readValue(json, EvaluationJob.class));
+        } catch (Exception e) {
+            throw new GeneralException(ErrorStatus.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    void save(EvaluationJob job) {
+        try {
+            redisTemplate.opsForValue().set(
+                    jobKey(job.getJobId()),
+                    objectMapper.writeValueAsString(job),
+                    Duration.ofSeconds(jobTtlSeconds)
+            );
+        } catch (Exception e) {
+            throw new GeneralException(ErrorStatus.INTERNAL_SERVER_ERROR, e);
+        }
+    }
+
+    private String jobKey(String jobId) {
+        return JOB_KEY_PREFIX + jobId;
+    }
+}
@@ -0,0 +1,141 @@
+package com.gathertree.demo.ai.service;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AI 평가 전역 선착순 quota
+ * - 획득 / 반환은 각각 Lua 스크립트 1회 (한도를 잠시라도 넘지 않음)
+ *
+ * lease-size > 0 이면 인스턴스가 토큰을 묶음으로 미리 받아 로컬에서 소진
+ * - 평가마다 Redis 왕복이 없음
+ * - 쓰지 않은 토큰은 종료 시 반환
+ * - 다른 인스턴스가 들고 있는 토큰만큼 한도 소진이 빨리 보일 수 있음
+ */
+@Slf4j
+@Component
+public class AiEvaluationQuota {
+
+    private static final String COUNT_KEY = "ai:evaluation:count";
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List<Long>> ACQUIRE_SCRIPT = (RedisScript)
+            RedisScript.of(new ClassPathResource("redis/ai-evaluation-quota-acquire.lua"), List.class);
+    private static final RedisScript<Long> RELEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ai-evaluation-quota-release.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final long limit;
+    private final int leaseSize;
+
+    // 가상 스레드 pinning을 피하기 위해 synchronized 대신 사용
+    private final ReentrantLock leaseLock = new ReentrantLock();
+    private int leasedTokens;
+
+    public AiEvaluationQuota(
+            RedisTemplate<String, String> redisTemplate,
+            @Value("${gathertree.ai.evaluation.quota.limit:200}") long limit,
+            @Value("${gathertree.ai.evaluation.quota.lease-size:0}") int leaseSize
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.limit = limit;
+        this.leaseSize = leaseSize;
+    }
+
+    /**
+     * 평가 1회분 토큰 획득 (소진 시 예외)
+     */
+    public void acquire() {
+        if (leaseSize <= 0) {
+            if (acquireFromRedis(1) == 0) {
+                throw exhausted();
+            }
+            return;
+        }
+
+        leaseLock.lock();
+        try {
+            if (leasedTokens == 0) {
+                leasedTokens = acquireFromRedis(leaseSize);
+            }
+            if (leasedTokens == 0) {
+                throw exhausted();
+            }
+            leasedTokens--;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    /**
+     * 평가 실패 시 토큰 반환
+     */
+    public void release() {
+        if (leaseSize <= 0) {
+            releaseToRedis(1);
+            return;
+        }
+
+        leaseLock.lock();
+        try {
+            leasedTokens++;
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    void returnLeasedTokens() {
+        leaseLock.lock();
+        try {
+            if (leasedTokens > 0) {
+                releaseToRedis(leasedTokens);
+                leasedTokens = 0;
+            }
+        } catch (Exception e) {
+            log.warn("AI 평가 quota lease 반환 실패 tokens={}", leasedTokens, e);
+        } finally {
+            leaseLock.unlock();
+        }
+    }
+
+    private int acquireFromRedis(int requested) {
+        List<Long> result = redisTemplate.execute(
+                ACQUIRE_SCRIPT,
+                List.of(COUNT_KEY),
+                String.valueOf(limit),
+                String.valueOf(requested)
+        );
+
+        long granted = result.get(0);
+        log.debug("AI 평가 quota 획득 granted={}, remaining={}", granted, result.get(1));
+        return (int) granted;
+    }
+
+    private void releaseToRedis(int tokens) {
+        Long remaining = redisTemplate.execute(
+                RELEASE_SCRIPT,
+                List.of(COUNT_KEY),
+                String.valueOf(limit),
+                String.valueOf(tokens)
+        );
+        log.debug("AI 평가 quota 반환 tokens={}, remaining={}", tokens, remaining);
+    }
+
+    private GeneralException exhausted() {
+        return new GeneralException(
+                ErrorStatus.EVALUATION_NOT_ALLOWED,
+                "AI 평가는 선착순 " + limit + "명까지만 제공됩니다."
+        );
+    }
+}
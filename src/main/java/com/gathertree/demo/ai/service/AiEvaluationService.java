@@ -4,15 +4,33 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
 import com.gathertree.demo.global.response.exception.GeneralException;
 import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.image.service.CompositeImage;
+import com.gathertree.demo.image.service.S3ImageService;
+import com.gathertree.demo.image.service.TreeImageCompositor;
 import com.gathertree.demo.s3.service.S3ImageMoveService;
 import com.gathertree.demo.tree.model.Tree;
+import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ClassPathResource;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class AiEvaluationService {
@@ -23,8 +41,11 @@ public class AiEvaluationService {
     private static final int REQUIRED_DECORATIONS = 10;
     private static final int CACHE_TTL_HOURS = 24;
 
-    private static final String GLOBAL_LIMIT_KEY = "ai:evaluation:count";
-    private static final long GLOBAL_LIMIT = 200;
+    private static final RedisScript<Long> RELEASE_LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ai-evaluation-lease-release.lua"), Long.class);
+    private static final RedisScript<Long> RENEW_LEASE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/ai-evaluation-lease-renew.lua"), Long.class);
+    private static final Duration LEASE_POLL_INTERVAL = Duration.ofMillis(200);
 
     /* =========================
        Dependencies
@@ -33,16 +54,32 @@ public class AiEvaluationService {
     private final ObjectMapper objectMapper;
     private final OpenAiEvaluationFacade openAiEvaluationFacade;
     private final S3ImageMoveService s3ImageMoveService;
+    private final AiEvaluationQuota aiEvaluationQuota;
+    private final TreeImageCompositor treeImageCompositor;
+    private final S3ImageService s3ImageService;
 
     @Value("${cloud.aws.s3.public-url}")
     private String publicUrl;
 
+    // 보유 중에는 ttl / 3 마다 연장 (보유자가 죽으면 ttl 후 만료)
+    @Value("${gathertree.ai.evaluation.lease-ttl:PT60S}")
+    private Duration leaseTtl;
+
+    // lease 연장 watchdog
+    private final ScheduledExecutorService leaseRenewer = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().daemon().name("ai-evaluation-lease-renewer").factory()
+    );
+
+    // 인스턴스 내 진행 중인 평가 (cacheKey → 결과)
+    private final Map<String, CompletableFuture<TreeEvaluationResponse>> inFlight =
+            new ConcurrentHashMap<>();
+
     /**
      * 트리 AI 평가
      *
      * @param tree     Redis에 저장된 트리 엔티티
      * @param mode     평가 모드 (mild | spicy)
-     * @param imageKey S3에 업로드된 tmp 이미지 key (eval/tmp/xxx.png)
+     * @param imageKey S3에 업로드된 tmp 이미지 key (eval/tmp/xxx.png), null이면 서버에서 합성
      */
     public TreeEvaluationResponse evaluate(
             Tree tree,
@@ -51,66 +88,144 @@ public class AiEvaluationService {
     ) {
 
         /* =========================
-           1️⃣ 장식 개수 조건
+           1️⃣~3️⃣ 요청 검증
            ========================= */
-        if (tree.getDecorations().size() < REQUIRED_DECORATIONS) {
-            throw new GeneralException(
-                    ErrorStatus.EVALUATION_NOT_ALLOWED,
-                    "장식이 10개 모두 모였을 때만 평가할 수 있습니다."
-            );
-        }
+        validate(tree, mode, imageKey);
 
         /* =========================
-           2️⃣ mode 검증
+           4️⃣ 캐시 확인
            ========================= */
-        if (!"mild".equals(mode) && !"spicy".equals(mode)) {
-            throw new GeneralException(
-                    ErrorStatus.BAD_REQUEST,
-                    "mode는 mild 또는 spicy여야 합니다."
-            );
+        String cacheKey = buildCacheKey(tree.getUuid(), mode);
+        TreeEvaluationResponse cached = getCached(cacheKey);
+        if (cached != null) {
+            return cached;
         }
 
         /* =========================
-           3️⃣ imageKey 검증
+           5️⃣ 같은 키의 평가는 하나만 수행
            ========================= */
-        if (imageKey == null || imageKey.isBlank()) {
-            throw new GeneralException(
-                    ErrorStatus.BAD_REQUEST,
-                    "평가할 이미지 key는 필수입니다."
-            );
+        CompletableFuture<TreeEvaluationResponse> flight = new CompletableFuture<>();
+        CompletableFuture<TreeEvaluationResponse> existing = inFlight.putIfAbsent(cacheKey, flight);
+        if (existing != null) {
+            return awaitInFlight(existing);
         }
 
-        if (!imageKey.startsWith("eval/tmp/")) {
-            throw new GeneralException(
-                    ErrorStatus.BAD_REQUEST,
-                    "평가 이미지는 eval/tmp 경로여야 합니다."
-            );
+        try {
+            TreeEvaluationResponse result = evaluateWithLease(tree, cacheKey, mode, imageKey);
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(cacheKey, flight);
         }
+    }
 
-        /* =========================
-           4️⃣ 캐시 확인
-           ========================= */
-        String cacheKey = buildCacheKey(tree.getUuid(), mode);
-        TreeEvaluationResponse cached = getCached(cacheKey);
-        if (cached != null) {
-            return cached;
+    /**
+     * 클러스터 단위 single-flight
+     * - lease(SET NX PX)를 잡은 인스턴스만 평가
+     * - 나머지는 결과 캐시가 채워질 때까지 대기
+     * - lease 보유자가 실패하면 대기자 중 하나가 lease를 이어받아 평가
+     * - 보유 중에는 watchdog이 lease를 연장 (평가가 ttl보다 길어도 중복 평가 없음)
+     * - 대기가 lease-ttl을 넘으면 409 (EVALUATION_IN_PROGRESS)
+     */
+    private TreeEvaluationResponse evaluateWithLease(
+            Tree tree,
+            String cacheKey,
+            String mode,
+            String imageKey
+    ) {
+        String leaseKey = cacheKey + ":lease";
+        String token = UUID.randomUUID().toString();
+        long deadline = System.nanoTime() + leaseTtl.toNanos();
+
+        while (true) {
+            Boolean acquired = redisTemplate.opsForValue()
+                    .setIfAbsent(leaseKey, token, leaseTtl);
+
+            if (Boolean.TRUE.equals(acquired)) {
+                ScheduledFuture<?> watchdog = startWatchdog(leaseKey, token);
+                try {
+                    // lease 대기 중 다른 인스턴스가 끝냈을 수 있음
+                    TreeEvaluationResponse cached = getCached(cacheKey);
+                    if (cached != null) {
+                        return cached;
+                    }
+                    return evaluateAndCache(tree, cacheKey, mode, imageKey);
+                } finally {
+                    watchdog.cancel(false);
+                    redisTemplate.execute(
+                            RELEASE_LEASE_SCRIPT,
+                            List.of(leaseKey),
+                            token
+                    );
+                }
+            }
+
+            sleep(LEASE_POLL_INTERVAL);
+
+            TreeEvaluationResponse cached = getCached(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+
+            if (System.nanoTime() > deadline) {
+                throw new GeneralException(ErrorStatus.EVALUATION_IN_PROGRESS);
+            }
         }
+    }
+
+    private ScheduledFuture<?> startWatchdog(String leaseKey, String token) {
+        long interval = Math.max(1, leaseTtl.toMillis() / 3);
+
+        return leaseRenewer.scheduleAtFixedRate(() -> {
+            try {
+                Long renewed = redisTemplate.execute(
+                        RENEW_LEASE_SCRIPT,
+                        List.of(leaseKey),
+                        token,
+                        String.valueOf(leaseTtl.toMillis())
+                );
+                if (!Long.valueOf(1).equals(renewed)) {
+                    log.warn("AI 평가 lease를 잃었습니다 key={}", leaseKey);
+                }
+            } catch (Exception e) {
+                // 다음 주기에 다시 시도 (예외로 끝나면 이후 실행이 취소됨)
+                log.warn("AI 평가 lease 연장 실패 key={}", leaseKey, e);
+            }
+        }, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void shutdownWatchdog() {
+        leaseRenewer.shutdownNow();
+    }
+
+    private TreeEvaluationResponse evaluateAndCache(
+            Tree tree,
+            String cacheKey,
+            String mode,
+            String imageKey
+    ) {
 
         /* =========================
-           5️⃣ 선착순 200회 제한
+           선착순 200회 제한
            ========================= */
-        consumeGlobalLimit();
+        aiEvaluationQuota.acquire();
 
         TreeEvaluationResponse result;
         try {
             /* =========================
-               6️⃣ tmp → public 이동
+               tmp → public 이동 (없으면 서버 합성 후 public 업로드)
                ========================= */
-            String publicKey = s3ImageMoveService.moveTmpToPublic(imageKey);
+            String publicKey = imageKey != null
+                    ? s3ImageMoveService.moveTmpToPublic(imageKey)
+                    : uploadComposite(tree);
             String imageUrl = publicUrl + "/" + publicKey;
 
             /* =========================
-               7️⃣ OpenAI 평가 (public URL)
+               OpenAI 평가 (public URL)
                ========================= */
             result = openAiEvaluationFacade.evaluate(
                     imageUrl,
@@ -118,7 +233,7 @@ public class AiEvaluationService {
             );
 
             /* =========================
-               8️⃣ imageUrl 포함 응답 구성
+               imageUrl 포함 응답 구성
                ========================= */
             result = TreeEvaluationResponse.builder()
                     .score(result.getScore())
@@ -129,18 +244,103 @@ public class AiEvaluationService {
                     .build();
 
         } catch (Exception e) {
-            rollbackGlobalLimit();
+            aiEvaluationQuota.release();
             throw e;
         }
 
         /* =========================
-           9️⃣ 캐싱
+           캐싱
            ========================= */
         putCache(cacheKey, result);
 
         return result;
     }
 
+    /**
+     * 서버 합성 이미지를 바로 public 경로에 업로드
+     * - 같은 revision은 합성 결과 캐시 재사용
+     */
+    private String uploadComposite(Tree tree) {
+        CompositeImage image = treeImageCompositor.render(tree);
+        String publicKey = "eval/public/" + tree.getUuid() + "-" + image.revision() + ".png";
+
+        s3ImageService.overwrite(image.png(), publicKey);
+
+        return publicKey;
+    }
+
+    /**
+     * 같은 인스턴스에서 먼저 시작된 평가 결과를 공유
+     */
+    private TreeEvaluationResponse awaitInFlight(CompletableFuture<TreeEvaluationResponse> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new GeneralException(ErrorStatus.AI_API_ERROR, e.getCause());
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException(ErrorStatus.AI_API_ERROR, e);
+        }
+    }
+
+    /**
+     * 평가 요청 검증
+     * - 비동기 작업은 큐에 넣기 전에 검증해 잘못된 요청을 즉시 거절
+     */
+    public void validate(Tree tree, String mode, String imageKey) {
+
+        /* =========================
+           1️⃣ 장식 개수 조건
+           ========================= */
+        if (tree.getDecorations().size() < REQUIRED_DECORATIONS) {
+            throw new GeneralException(
+                    ErrorStatus.EVALUATION_NOT_ALLOWED,
+                    "장식이 10개 모두 모였을 때만 평가할 수 있습니다."
+            );
+        }
+
+        /* =========================
+           2️⃣ mode 검증
+           ========================= */
+        if (!"mild".equals(mode) && !"spicy".equals(mode)) {
+            throw new GeneralException(
+                    ErrorStatus.BAD_REQUEST,
+                    "mode는 mild 또는 spicy여야 합니다."
+            );
+        }
+
+        /* =========================
+           3️⃣ imageKey 검증
+           ========================= */
+        // 없으면 서버에서 합성
+        if (imageKey == null) {
+            return;
+        }
+
+        if (imageKey.isBlank() || !imageKey.startsWith("eval/tmp/")) {
+            throw new GeneralException(
+                    ErrorStatus.BAD_REQUEST,
+                    "평가 이미지는 eval/tmp 경로여야 합니다."
+            );
+        }
+    }
+
+    /**
+     * 캐시된 평가 결과 (없으면 null)
+     */
+    public TreeEvaluationResponse getCachedResult(String uuid, String mode) {
+        return getCached(buildCacheKey(uuid, mode));
+    }
+
     /* =========================
        Cache Key
        ========================= */
@@ -177,22 +377,4 @@ public class AiEvaluationService {
         } catch (Exception ignored) {
         }
     }
-
-    /* =========================
-       Global Limit
-       ========================= */
-    private void consumeGlobalLimit() {
-        Long count = redisTemplate.opsForValue().increment(GLOBAL_LIMIT_KEY);
-        if (count != null && count > GLOBAL_LIMIT) {
-            redisTemplate.opsForValue().decrement(GLOBAL_LIMIT_KEY);
-            throw new GeneralException(
-                    ErrorStatus.EVALUATION_NOT_ALLOWED,
-                    "AI 평가는 선착순 200명까지만 제공됩니다."
-            );
-        }
-    }
-
-    private void rollbackGlobalLimit() {
-        redisTemplate.opsForValue().decrement(GLOBAL_LIMIT_KEY);
-    }
 }
@@ -0,0 +1,273 @@
+package com.gathertree.demo.ai.service;
+
+import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
+import com.gathertree.demo.ai.model.EvaluationJob;
+import com.gathertree.demo.ai.model.EvaluationJobStatus;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.event.TreeEvent;
+import com.gathertree.demo.tree.event.TreeEventPublisher;
+import com.gathertree.demo.tree.event.TreeEventType;
+import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.service.TreeService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.redis.connection.RedisListCommands;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * 비동기 AI 평가 워커
+ * - 워커 수(gathertree.ai.evaluation.workers)만큼만 동시에 S3 이동 + OpenAI 호출
+ * - 결과는 AiEvaluationService가 tree:{uuid}:evaluation:{mode} 에 캐싱
+ * - 완료 / 실패는 트리 SSE 이벤트로 전달
+ *
+ * 유실 방지 (reliable queue)
+ * - 대기열에서 BLMOVE로 인스턴스별 처리 목록(ai:evaluation:processing:{workerId})으로 옮긴 뒤 처리, 끝나면 LREM
+ * - 인스턴스는 heartbeat로 생존 key(ai:evaluation:worker:{workerId})를 갱신
+ * - 생존 key가 만료된 인스턴스의 처리 목록은 다른 인스턴스가 대기열로 되돌림 (at-least-once)
+ * - stop() 시 새 작업은 꺼내지 않고 진행 중인 작업은 shutdown-timeout까지 기다림
+ *
+ * servlet 배포에서만 실행 (reactive 배포는 읽기 전용)
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RequiredArgsConstructor
+public class AiEvaluationWorker implements SmartLifecycle {
+
+    private static final Duration POLL_TIMEOUT = Duration.ofSeconds(5);
+    private static final Duration ERROR_BACKOFF = Duration.ofSeconds(1);
+
+    private static final String WORKERS_KEY = "ai:evaluation:workers";
+    private static final String PROCESSING_KEY_PREFIX = "ai:evaluation:processing:";
+    private static final String ALIVE_KEY_PREFIX = "ai:evaluation:worker:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final AiEvaluationJobService jobService;
+    private final AiEvaluationService aiEvaluationService;
+    private final TreeService treeService;
+    private final TreeEventPublisher treeEventPublisher;
+
+    @Value("${gathertree.ai.evaluation.workers:4}")
+    private int workers;
+
+    @Value("${gathertree.ai.evaluation.heartbeat-interval:PT10S}")
+    private Duration heartbeatInterval;
+
+    @Value("${gathertree.ai.evaluation.shutdown-timeout:PT60S}")
+    private Duration shutdownTimeout;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    private final String workerId = UUID.randomUUID().toString();
+    private final List<Thread> threads = new ArrayList<>();
+    private volatile boolean running;
+
+    @Override
+    public void start() {
+        running = true;
+
+        try {
+            heartbeat();
+        } catch (Exception e) {
+            log.warn("AI 평가 워커 등록 실패 workerId={}", workerId, e);
+        }
+
+        Thread.Builder builder = virtualThreads
+                ? Thread.ofVirtual().name("ai-evaluation-worker-", 0)
+                : Thread.ofPlatform().daemon().name("ai-evaluation-worker-", 0);
+
+        for (int i = 0; i < workers; i++) {
+            threads.add(builder.start(this::pollLoop));
+        }
+    }
+
+    /**
+     * 새 작업은 꺼내지 않고, 진행 중인 작업은 끝날 때까지 대기
+     * - 대기 시간 안에 끝나지 않은 작업은 생존 key 만료 후 다른 인스턴스가 다시 처리
+     */
+    @Override
+    public void stop() {
+        running = false;
+
+        long deadline = System.nanoTime() + shutdownTimeout.plus(POLL_TIMEOUT).toNanos();
+        for (Thread thread : threads) {
+            try {
+                thread.join(Math.max(1, Duration.ofNanos(deadline - System.nanoTime()).toMillis()));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        boolean drained = threads.stream().noneMatch(Thread::isAlive);
+        threads.clear();
+
+        if (drained) {
+            try {
+                redisTemplate.delete(aliveKey(workerId));
+                redisTemplate.opsForSet().remove(WORKERS_KEY, workerId);
+            } catch (Exception e) {
+                log.warn("AI 평가 워커 등록 해제 실패 workerId={}", workerId, e);
+            }
+        } else {
+            log.warn("AI 평가 워커 종료 대기 시간 초과 workerId={} (남은 작업은 다른 인스턴스가 재처리)", workerId);
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    /**
+     * 생존 key 갱신 + 죽은 인스턴스의 처리 목록 회수
+     */
+    @Scheduled(fixedDelayString = "${gathertree.ai.evaluation.heartbeat-interval:PT10S}")
+    void heartbeat() {
+        if (!running) {
+            return;
+        }
+
+        redisTemplate.opsForSet().add(WORKERS_KEY, workerId);
+        redisTemplate.opsForValue().set(aliveKey(workerId), "1", heartbeatInterval.multipliedBy(3));
+
+        requeueOrphans();
+    }
+
+    private void requeueOrphans() {
+        Set<String> workerIds = redisTemplate.opsForSet().members(WORKERS_KEY);
+        if (workerIds == null) {
+            return;
+        }
+
+        for (String id : workerIds) {
+            if (id.equals(workerId) || Boolean.TRUE.equals(redisTemplate.hasKey(aliveKey(id)))) {
+                continue;
+            }
+
+            // LMOVE는 원자적이므로 여러 인스턴스가 동시에 회수해도 중복되지 않음
+            int requeued = 0;
+            while (redisTemplate.opsForList().move(
+                    processingKey(id), RedisListCommands.Direction.RIGHT,
+                    AiEvaluationJobService.QUEUE_KEY, RedisListCommands.Direction.RIGHT
+            ) != null) {
+                requeued++;
+            }
+
+            redisTemplate.opsForSet().remove(WORKERS_KEY, id);
+
+            if (requeued > 0) {
+                log.warn("중단된 AI 평가 작업 재등록 workerId={} count={}", id, requeued);
+            }
+        }
+    }
+
+    private void pollLoop() {
+        String processingKey = processingKey(workerId);
+
+        while (running) {
+            try {
+                String jobId = redisTemplate.opsForList().move(
+                        AiEvaluationJobService.QUEUE_KEY, RedisListCommands.Direction.RIGHT,
+                        processingKey, RedisListCommands.Direction.LEFT,
+                        POLL_TIMEOUT
+                );
+                if (jobId == null) {
+                    continue;
+                }
+
+                // 꺼낸 작업은 stop 이후라도 끝까지 처리
+                try {
+                    process(jobId);
+                } finally {
+                    redisTemplate.opsForList().remove(processingKey, 1, jobId);
+                }
+            } catch (Exception e) {
+                if (!running) {
+                    return;
+                }
+                log.error("AI 평가 작업 대기열 처리 실패", e);
+                sleepQuietly();
+            }
+        }
+    }
+
+    private void process(String jobId) {
+        // RUNNING = 죽은 인스턴스에서 회수된 작업
+        EvaluationJob job = jobService.findJob(jobId).orElse(null);
+        if (job == null
+                || job.getStatus() == EvaluationJobStatus.DONE
+                || job.getStatus() == EvaluationJobStatus.FAILED) {
+            return;
+        }
+
+        jobService.save(job.toBuilder().status(EvaluationJobStatus.RUNNING).build());
+
+        EvaluationJob completed;
+        try {
+            Tree tree = treeService.getTreeEntity(job.getUuid());
+            TreeEvaluationResponse result =
+                    aiEvaluationService.evaluate(tree, job.getMode(), job.getImageKey());
+
+            completed = job.toBuilder()
+                    .status(EvaluationJobStatus.DONE)
+                    .result(result)
+                    .completedAt(LocalDateTime.now())
+                    .build();
+        } catch (GeneralException e) {
+            completed = failed(job, e.getErrorStatus(), e.getData());
+        } catch (Exception e) {
+            log.error("AI 평가 작업 실패 jobId={}", jobId, e);
+            completed = failed(job, ErrorStatus.AI_API_ERROR, null);
+        }
+
+        jobService.save(completed);
+
+        treeEventPublisher.publish(TreeEvent.ofJob(
+                job.getUuid(),
+                completed.getStatus() == EvaluationJobStatus.DONE
+                        ? TreeEventType.EVALUATION_COMPLETED
+                        : TreeEventType.EVALUATION_FAILED,
+                jobId
+        ));
+    }
+
+    private EvaluationJob failed(EvaluationJob job, ErrorStatus status, Object data) {
+        return job.toBuilder()
+                .status(EvaluationJobStatus.FAILED)
+                .errorCode(status.getCode())
+                .errorMessage(data instanceof String message ? message : status.getMessage())
+                .completedAt(LocalDateTime.now())
+                .build();
+    }
+
+    private void sleepQuietly() {
+        try {
+            Thread.sleep(ERROR_BACKOFF);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static String processingKey(String workerId) {
+        return PROCESSING_KEY_PREFIX + workerId;
+    }
+
+    private static String aliveKey(String workerId) {
+        return ALIVE_KEY_PREFIX + workerId;
+    }
+}
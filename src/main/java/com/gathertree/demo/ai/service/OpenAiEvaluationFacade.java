@@ -2,6 +2,14 @@ package com.gathertree.demo.ai.service;
 
 import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
 
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
 public interface OpenAiEvaluationFacade {
     TreeEvaluationResponse evaluate(String imageUrl, String mode);
+
+    /**
+     * @param timeout 이 호출의 전체 제한 시간 (연결 + 응답 수신 + 파싱)
+     */
+    CompletableFuture<TreeEvaluationResponse> evaluateAsync(String imageUrl, String mode, Duration timeout);
 }
@@ -1,78 +1,243 @@
 package com.gathertree.demo.ai.service;
 
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
 import com.gathertree.demo.global.response.exception.GeneralException;
 import com.gathertree.demo.global.response.status.ErrorStatus;
-import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.*;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.TimeUnit;
 
+/**
+ * OpenAI Responses API 클라이언트
+ * - JDK HttpClient 하나를 재사용 (keep-alive 커넥션 풀, HTTP/2 지원 시 multiplexing)
+ * - 연결 timeout + 호출별 전체 timeout으로 upstream 지연이 요청 스레드를 무한정 잡지 않음
+ * - 응답 본문은 상한(1MB)까지만 byte[]로 받은 뒤 파싱 (timeout 시 교환 자체를 취소)
+ */
 @Service
-@RequiredArgsConstructor
 public class OpenAiEvaluationService implements OpenAiEvaluationFacade {
 
-    @Value("${openai.api-key}")
-    private String apiKey;
+    private static final String RESPONSES_PATH = "/v1/responses";
+    private static final long MAX_RESPONSE_BYTES = 1024 * 1024;
 
-    @Value("${openai.model}")
-    private String model;
+    private static final TypeReference<List<String>> COMMENTS_TYPE = new TypeReference<>() {
+    };
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final URI responsesUri;
+    private final String apiKey;
+    private final String model;
+    private final Duration requestTimeout;
 
-    private static final String OPENAI_URL = "https://api.openai.com/v1/responses";
+    public OpenAiEvaluationService(
+            ObjectMapper objectMapper,
+            @Value("${openai.api-key}") String apiKey,
+            @Value("${openai.model}") String model,
+            @Value("${openai.base-url:https://api.openai.com}") String baseUrl,
+            @Value("${openai.connect-timeout:PT3S}") Duration connectTimeout,
+            @Value("${openai.request-timeout:PT30S}") Duration requestTimeout
+    ) {
+        this.objectMapper = objectMapper;
+        this.apiKey = apiKey;
+        this.model = model;
+        this.requestTimeout = requestTimeout;
+        this.responsesUri = URI.create(baseUrl + RESPONSES_PATH);
+        this.httpClient = HttpClient.newBuilder()
+                .connectTimeout(connectTimeout)
+                .build();
+    }
 
     @Override
     public TreeEvaluationResponse evaluate(String imageUrl, String mode) {
+        try {
+            return evaluateAsync(imageUrl, mode, requestTimeout).join();
+        } catch (CompletionException e) {
+            throw toGeneralException(e.getCause());
+        }
+    }
 
+    @Override
+    public CompletableFuture<TreeEvaluationResponse> evaluateAsync(
+            String imageUrl,
+            String mode,
+            Duration timeout
+    ) {
+        HttpRequest request;
         try {
-            String prompt = AiPromptFactory.buildPrompt(mode);
-
-            Map<String, Object> body = Map.of(
-                    "model", model,
-                    "input", new Object[]{
-                            Map.of(
-                                    "role", "user",
-                                    "content", new Object[]{
-                                            Map.of("type", "input_text", "text", prompt),
-                                            Map.of("type", "input_image", "image_url", imageUrl)
-                                    }
-                            )
+            request = HttpRequest.newBuilder(responsesUri)
+                    .timeout(timeout)
+                    .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
+                    .header(HttpHeaders.AUTHORIZATION, "Bearer " + apiKey)
+                    .POST(HttpRequest.BodyPublishers.ofByteArray(
+                            objectMapper.writeValueAsBytes(buildBody(imageUrl, mode))
+                    ))
+                    .build();
+        } catch (Exception e) {
+            return CompletableFuture.failedFuture(new GeneralException(ErrorStatus.AI_API_ERROR, e));
+        }
+
+        CompletableFuture<HttpResponse<byte[]>> exchange =
+                httpClient.sendAsync(request, info -> new BoundedBodySubscriber(MAX_RESPONSE_BYTES));
+
+        // HttpRequest.timeout은 헤더 수신까지만 적용되므로 본문 수신까지 전체 제한
+        // - timeout 시 원래 future를 cancel해야 HttpClient가 교환을 중단하고 커넥션을 닫음
+        return exchange.copy()
+                .orTimeout(timeout.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        exchange.cancel(true);
                     }
-            );
+                })
+                .thenApply(this::parse)
+                .exceptionallyCompose(e -> CompletableFuture.failedFuture(toGeneralException(e)));
+    }
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(apiKey);
+    private Map<String, Object> buildBody(String imageUrl, String mode) {
+        String prompt = AiPromptFactory.buildPrompt(mode);
 
-            ResponseEntity<String> response = restTemplate.postForEntity(
-                    OPENAI_URL,
-                    new HttpEntity<>(body, headers),
-                    String.class
-            );
+        return Map.of(
+                "model", model,
+                "input", new Object[]{
+                        Map.of(
+                                "role", "user",
+                                "content", new Object[]{
+                                        Map.of("type", "input_text", "text", prompt),
+                                        Map.of("type", "input_image", "image_url", imageUrl)
+                                }
+                        )
+                }
+        );
+    }
 
-            JsonNode root = objectMapper.readTree(response.getBody());
-            String text = root.path("output").get(0).path("content").get(0).path("text").asText();
-            JsonNode json = objectMapper.readTree(text);
+    private TreeEvaluationResponse parse(HttpResponse<byte[]> response) {
+        try {
+            if (response.statusCode() / 100 != 2) {
+                throw new GeneralException(
+                        ErrorStatus.AI_API_ERROR,
+                        "OpenAI 응답 오류 status=" + response.statusCode()
+                );
+            }
+
+            JsonNode root = objectMapper.readTree(response.body());
+            JsonNode json = objectMapper.readTree(extractOutputText(root));
 
             return TreeEvaluationResponse.builder()
                     .score(json.get("score").asInt())
                     .title(json.get("title").asText())
                     .summary(json.get("summary").asText())
-                    .comments(
-                            objectMapper.convertValue(json.get("comments"), List.class)
-                    )
+                    .comments(objectMapper.convertValue(json.get("comments"), COMMENTS_TYPE))
                     .build();
 
+        } catch (GeneralException e) {
+            throw e;
         } catch (Exception e) {
             throw new GeneralException(ErrorStatus.AI_API_ERROR, e);
         }
     }
+
+    /**
+     * output 중 첫 번째 output_text
+     * - reasoning 등 다른 타입의 output item이 앞에 올 수 있음
+     */
+    private String extractOutputText(JsonNode root) {
+        for (JsonNode output : root.path("output")) {
+            for (JsonNode content : output.path("content")) {
+                if ("output_text".equals(content.path("type").asText())) {
+                    return content.path("text").asText();
+                }
+            }
+        }
+
+        throw new GeneralException(ErrorStatus.AI_API_ERROR, "OpenAI 응답에 output_text가 없습니다.");
+    }
+
+    private GeneralException toGeneralException(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+
+        if (cause instanceof GeneralException generalException) {
+            return generalException;
+        }
+        return new GeneralException(ErrorStatus.AI_API_ERROR, cause);
+    }
+
+    /**
+     * 상한이 있는 byte[] 본문
+     * - 본문을 다 받은 뒤 파싱하므로 느린 본문이 파싱 스레드를 막지 않음
+     * - 상한을 넘으면 구독을 취소하고 실패
+     */
+    private static final class BoundedBodySubscriber implements HttpResponse.BodySubscriber<byte[]> {
+
+        private final HttpResponse.BodySubscriber<byte[]> delegate = HttpResponse.BodySubscribers.ofByteArray();
+        private final long maxBytes;
+
+        private Flow.Subscription subscription;
+        private long received;
+        private boolean exceeded;
+
+        private BoundedBodySubscriber(long maxBytes) {
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public CompletionStage<byte[]> getBody() {
+            return delegate.getBody();
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+            delegate.onSubscribe(subscription);
+        }
+
+        @Override
+        public void onNext(List<ByteBuffer> items) {
+            if (exceeded) {
+                return;
+            }
+
+            for (ByteBuffer item : items) {
+                received += item.remaining();
+            }
+
+            if (received > maxBytes) {
+                exceeded = true;
+                subscription.cancel();
+                delegate.onError(new GeneralException(ErrorStatus.AI_API_ERROR, "OpenAI 응답이 너무 큽니다."));
+                return;
+            }
+            delegate.onNext(items);
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            if (!exceeded) {
+                delegate.onError(throwable);
+            }
+        }
+
+        @Override
+        public void onComplete() {
+            if (!exceeded) {
+                delegate.onComplete();
+            }
+        }
+    }
 }
@@ -1,23 +1,53 @@
 package com.gathertree.demo.global.config;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.reactive.config.WebFluxConfigurer;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
+import java.util.List;
+
 @Configuration
 public class CorsConfig implements WebMvcConfigurer {
 
     @Override
     public void addCorsMappings(CorsRegistry registry) {
         registry.addMapping("/**")
-                .allowedOrigins(
-                        "http://localhost:5173",   // 프론트 로컬 (Vite)
-                        "http://localhost:8080",   // Swagger 로컬
-                        "https://beour.store",      // 프론트 운영
-                        "https://api.beour.store"
-                )
-                .allowedMethods("GET", "POST", "PUT", "DELETE", "OPTIONS")
-                .allowedHeaders("*")
-                .allowCredentials(false);
+                .combine(corsConfiguration());
+    }
+
+    /**
+     * reactive 배포 (같은 CORS 정책, ETag 노출 포함)
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public WebFluxConfigurer reactiveCorsConfigurer() {
+        return new WebFluxConfigurer() {
+            @Override
+            public void addCorsMappings(org.springframework.web.reactive.config.CorsRegistry registry) {
+                registry.addMapping("/**")
+                        .combine(corsConfiguration());
+            }
+        };
+    }
+
+    private static CorsConfiguration corsConfiguration() {
+        CorsConfiguration config = new CorsConfiguration();
+        config.setAllowedOrigins(List.of(
+                "http://localhost:5173",   // 프론트 로컬 (Vite)
+                "http://localhost:8080",   // Swagger 로컬
+                "https://beour.store",      // 프론트 운영
+                "https://api.beour.store"
+        ));
+        config.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        config.setAllowedHeaders(List.of("*"));
+        // 조건부 요청 / SSE connected ETag 비교용 (safelisted 응답 헤더가 아님)
+        config.setExposedHeaders(List.of(HttpHeaders.ETAG));
+        config.setAllowCredentials(false);
+        return config;
     }
 }
@@ -0,0 +1,51 @@
+package com.gathertree.demo.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+@Configuration
+public class RedisConfig {
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * Redis pub/sub 구독 컨테이너
+     * - 인스턴스 간 캐시 무효화 등 브로드캐스트 메시지 수신용
+     */
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer(
+            RedisConnectionFactory connectionFactory
+    ) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+
+        // 메시지 수신마다 스레드를 만들므로 virtual thread 모드에서는 virtual thread 사용
+        SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor("redis-listener-");
+        executor.setVirtualThreads(virtualThreads);
+        container.setTaskExecutor(executor);
+
+        return container;
+    }
+
+    /**
+     * 값을 byte[] 그대로 읽고 쓰는 템플릿
+     * - 트리 blob (TreeCodec 바이너리 형식 포함)
+     */
+    @Bean
+    public RedisTemplate<String, byte[]> redisBytesTemplate(RedisConnectionFactory connectionFactory) {
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.setHashKeySerializer(RedisSerializer.string());
+        template.setHashValueSerializer(RedisSerializer.byteArray());
+        return template;
+    }
+}
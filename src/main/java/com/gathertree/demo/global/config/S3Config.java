@@ -1,19 +1,109 @@
 package com.gathertree.demo.global.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.client.config.SdkAdvancedAsyncClientOption;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3AsyncClientBuilder;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Executors;
 
 @Configuration
 public class S3Config {
 
+    public static final Region REGION = Region.AP_NORTHEAST_2;
+
+    /**
+     * 커넥션 풀 크기
+     * - virtual thread 모드에서는 동시 업로드 수가 요청 스레드 수에 묶이지 않으므로
+     *   기본값(50)보다 크게 잡고, 풀이 고갈되면 acquisition timeout으로 빠르게 실패
+     */
+    @Value("${gathertree.s3.max-connections:200}")
+    private int maxConnections;
+
+    @Value("${gathertree.s3.connection-acquisition-timeout:PT5S}")
+    private Duration connectionAcquisitionTimeout;
+
+    @Value("${spring.threads.virtual.enabled:false}")
+    private boolean virtualThreads;
+
+    /**
+     * 자격 증명 체인은 한 번만 해석하고 모든 S3 클라이언트가 공유
+     * - DefaultCredentialsProvider가 자격 증명을 캐싱하고 만료 전에 갱신
+     */
+    @Bean(destroyMethod = "close")
+    public AwsCredentialsProvider awsCredentialsProvider() {
+        return DefaultCredentialsProvider.builder().build();
+    }
+
+    /**
+     * POST policy 서명 시각 (S3PostPolicySigner)
+     */
+    @Bean
+    public Clock clock() {
+        return Clock.systemUTC();
+    }
+
     @Bean
-    public S3Client s3Client() {
+    public S3Client s3Client(AwsCredentialsProvider awsCredentialsProvider) {
         return S3Client.builder()
-                .region(Region.AP_NORTHEAST_2)
-                .build(); // DefaultCredentialsProvider
+                .region(REGION)
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClientBuilder(
+                        ApacheHttpClient.builder()
+                                .maxConnections(maxConnections)
+                                .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                )
+                .build();
+    }
+
+    /**
+     * 비동기 업로드용 클라이언트 (Netty NIO)
+     * - 업로드 중 요청 스레드를 점유하지 않음
+     * - virtual thread 모드에서는 future 후속 처리(Redis 저장 등)를 가상 스레드에서 실행
+     */
+    @Bean(destroyMethod = "close")
+    public S3AsyncClient s3AsyncClient(AwsCredentialsProvider awsCredentialsProvider) {
+        S3AsyncClientBuilder builder = S3AsyncClient.builder()
+                .region(REGION)
+                .credentialsProvider(awsCredentialsProvider)
+                .httpClientBuilder(
+                        NettyNioAsyncHttpClient.builder()
+                                .maxConcurrency(maxConnections)
+                                .connectionAcquisitionTimeout(connectionAcquisitionTimeout)
+                );
+
+        if (virtualThreads) {
+            builder.asyncConfiguration(config -> config.advancedOption(
+                    SdkAdvancedAsyncClientOption.FUTURE_COMPLETION_EXECUTOR,
+                    Executors.newVirtualThreadPerTaskExecutor()
+            ));
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * Presigned URL 서명기 (서명은 순수 CPU 연산이라 하나를 공유)
+     * - 요청마다 create()하면 자격 증명 체인 / region / 설정을 매번 다시 구성함
+     */
+    @Bean(destroyMethod = "close")
+    public S3Presigner s3Presigner(AwsCredentialsProvider awsCredentialsProvider) {
+        return S3Presigner.builder()
+                .region(REGION)
+                .credentialsProvider(awsCredentialsProvider)
+                .build();
     }
 }
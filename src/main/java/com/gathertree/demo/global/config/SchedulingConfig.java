@@ -0,0 +1,19 @@
+package com.gathertree.demo.global.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 스케줄 작업은 servlet(쓰기) 배포에서만 실행
+ * - tmp 이미지 삭제 재시도 (S3ImageMoveService)
+ * - SSE heartbeat (TreeEventHub)
+ * - AI 평가 워커 heartbeat / 작업 회수 (AiEvaluationWorker)
+ *
+ * reactive 배포는 읽기 전용이라 위 작업이 필요 없음
+ */
+@Configuration
+@EnableScheduling
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SchedulingConfig {
+}
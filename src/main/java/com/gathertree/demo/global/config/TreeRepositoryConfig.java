@@ -0,0 +1,186 @@
+package com.gathertree.demo.global.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.repository.BinaryTreeCodec;
+import com.gathertree.demo.tree.repository.JsonTreeCodec;
+import com.gathertree.demo.tree.repository.NearCacheReactiveTreeReader;
+import com.gathertree.demo.tree.repository.NearCacheTreeRepository;
+import com.gathertree.demo.tree.repository.ReactiveTreeReader;
+import com.gathertree.demo.tree.repository.RedisHashTreeRepository;
+import com.gathertree.demo.tree.repository.RedisJsonReactiveTreeReader;
+import com.gathertree.demo.tree.repository.RedisJsonTreeRepository;
+import com.gathertree.demo.tree.repository.TreeCodec;
+import com.gathertree.demo.tree.repository.TreeRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.time.Duration;
+import java.util.List;
+
+/*
+ 트리 저장 레이아웃 선택
+ - json : tree:{uuid} 하나에 Tree 전체 JSON 저장 (기본값)
+ - hash : 메타데이터는 hash, 장식은 zset + hash로 분리 저장
+
+ json 레이아웃의 값 인코딩 (tree-codec)
+ - json   : Jackson JSON (기본값)
+ - binary : 버전 byte + epoch millis + 상대 key (BinaryTreeCodec)
+ 두 형식 모두 읽을 수 있으므로 전체 배포 후 설정만 바꾸면 쓰기 시점부터 전환된다.
+
+ near-cache.enabled=true 이면 위 저장소 앞에 로컬 캐시를 둔다.
+ reactive 모드에서는 같은 키 / codec을 ReactiveTreeReader로 조회한다.
+ near cache 무효화(tree:invalidate)는 저장소 구현체가 수정 시 항상 발행하므로
+ servlet 배포의 near-cache 설정과 무관하게 reactive near cache가 무효화된다.
+ */
+@Configuration
+public class TreeRepositoryConfig {
+
+    @Value("${gathertree.redis.tree-storage:json}")
+    private String treeStorage;
+
+    @Value("${gathertree.redis.tree-codec:json}")
+    private String treeCodec;
+
+    @Value("${cloud.aws.s3.public-url}")
+    private String publicUrl;
+
+    @Value("${gathertree.redis.tree-ttl-seconds}")
+    private long treeTtlSeconds;
+
+    @Value("${gathertree.redis.near-cache.enabled:false}")
+    private boolean nearCacheEnabled;
+
+    @Value("${gathertree.redis.near-cache.maximum-size:10000}")
+    private long nearCacheMaximumSize;
+
+    @Value("${gathertree.redis.near-cache.ttl-seconds:10}")
+    private long nearCacheTtlSeconds;
+
+    @Bean
+    public TreeRepository treeRepository(
+            RedisTemplate<String, String> redisTemplate,
+            RedisTemplate<String, byte[]> redisBytesTemplate,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        TreeRepository storage = storageRepository(redisTemplate, redisBytesTemplate, objectMapper);
+
+        if (!nearCacheEnabled) {
+            return storage;
+        }
+
+        AsyncCache<String, Tree> cache = nearCache(meterRegistry, "tree.near-cache");
+
+        NearCacheTreeRepository nearCache = new NearCacheTreeRepository(storage, cache);
+        listenerContainer.addMessageListener(
+                nearCache,
+                new ChannelTopic(TreeRepository.INVALIDATION_CHANNEL)
+        );
+
+        return nearCache;
+    }
+
+    private TreeRepository storageRepository(
+            RedisTemplate<String, String> redisTemplate,
+            RedisTemplate<String, byte[]> redisBytesTemplate,
+            ObjectMapper objectMapper
+    ) {
+        Duration ttl = Duration.ofSeconds(treeTtlSeconds);
+
+        return switch (treeStorage) {
+            case "json" -> {
+                List<TreeCodec> codecs = readableCodecs(objectMapper);
+
+                TreeCodec codec = switch (treeCodec) {
+                    case "json" -> codecs.get(0);
+                    case "binary" -> codecs.get(1);
+                    default -> throw new IllegalStateException(
+                            "지원하지 않는 tree-codec 입니다: " + treeCodec
+                    );
+                };
+
+                yield new RedisJsonTreeRepository(redisBytesTemplate, codec, codecs, ttl);
+            }
+            case "hash" -> new RedisHashTreeRepository(redisTemplate, objectMapper, ttl);
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 tree-storage 입니다: " + treeStorage
+            );
+        };
+    }
+
+    /**
+     * reactive 배포 조회 경로 (spring.main.web-application-type=reactive)
+     * - json 레이아웃만 지원
+     */
+    @Bean
+    @ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+    public ReactiveTreeReader reactiveTreeReader(
+            ReactiveRedisConnectionFactory connectionFactory,
+            ObjectMapper objectMapper,
+            RedisMessageListenerContainer listenerContainer,
+            MeterRegistry meterRegistry
+    ) {
+        if (!"json".equals(treeStorage)) {
+            throw new IllegalStateException(
+                    "reactive 모드는 tree-storage=json 만 지원합니다: " + treeStorage
+            );
+        }
+
+        ReactiveRedisTemplate<String, byte[]> redisTemplate = new ReactiveRedisTemplate<>(
+                connectionFactory,
+                RedisSerializationContext.<String, byte[]>newSerializationContext(RedisSerializer.string())
+                        .value(RedisSerializer.byteArray())
+                        .build()
+        );
+
+        ReactiveTreeReader reader = new RedisJsonReactiveTreeReader(redisTemplate, readableCodecs(objectMapper));
+
+        if (!nearCacheEnabled) {
+            return reader;
+        }
+
+        NearCacheReactiveTreeReader nearCache = new NearCacheReactiveTreeReader(
+                reader,
+                nearCache(meterRegistry, "tree.reactive-near-cache")
+        );
+        listenerContainer.addMessageListener(
+                nearCache,
+                new ChannelTopic(TreeRepository.INVALIDATION_CHANNEL)
+        );
+
+        return nearCache;
+    }
+
+    /**
+     * 조회 가능한 codec 목록 (0: json, 1: binary)
+     */
+    private List<TreeCodec> readableCodecs(ObjectMapper objectMapper) {
+        return List.of(new JsonTreeCodec(objectMapper), new BinaryTreeCodec(publicUrl));
+    }
+
+    private AsyncCache<String, Tree> nearCache(MeterRegistry meterRegistry, String name) {
+        AsyncCache<String, Tree> cache = Caffeine.newBuilder()
+                .maximumSize(nearCacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(nearCacheTtlSeconds))
+                .recordStats()
+                .buildAsync();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache.synchronous(), name);
+
+        return cache;
+    }
+}
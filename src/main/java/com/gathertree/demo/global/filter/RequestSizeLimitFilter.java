@@ -0,0 +1,153 @@
+package com.gathertree.demo.global.filter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.global.response.ApiResult;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 요청 본문 크기 제한
+ * - Content-Length가 있으면 본문을 읽기 전에 413으로 거절
+ * - 길이를 모르는 요청(chunked 등)은 읽은 양을 세다가 상한을 넘는 순간 거절
+ * - 이미지별 규격(PngImageSpec)은 역직렬화 시점에 다시 검증
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class RequestSizeLimitFilter extends OncePerRequestFilter {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBodyBytes;
+
+    public RequestSizeLimitFilter(
+            ObjectMapper objectMapper,
+            @Value("${gathertree.request.max-body-bytes:524288}") long maxBodyBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.maxBodyBytes = maxBodyBytes;
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request,
+            HttpServletResponse response,
+            FilterChain filterChain
+    ) throws ServletException, IOException {
+
+        if (request.getContentLengthLong() > maxBodyBytes) {
+            writeTooLarge(response);
+            return;
+        }
+
+        filterChain.doFilter(new LimitedRequest(request, maxBodyBytes), response);
+    }
+
+    private void writeTooLarge(HttpServletResponse response) throws IOException {
+        response.setStatus(ErrorStatus.IMAGE_TOO_LARGE.getHttpStatus().value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(
+                response.getOutputStream(),
+                ApiResult.onFailure(ErrorStatus.IMAGE_TOO_LARGE, null)
+        );
+    }
+
+    /**
+     * 본문 스트림을 상한까지만 읽도록 감싼 요청
+     * - 초과 시 GeneralException(IMAGE_TOO_LARGE) → 역직렬화 실패로 전달되어 413 응답
+     */
+    private static final class LimitedRequest extends HttpServletRequestWrapper {
+
+        private final long maxBodyBytes;
+        private ServletInputStream inputStream;
+
+        private LimitedRequest(HttpServletRequest request, long maxBodyBytes) {
+            super(request);
+            this.maxBodyBytes = maxBodyBytes;
+        }
+
+        @Override
+        public ServletInputStream getInputStream() throws IOException {
+            if (inputStream == null) {
+                inputStream = new LimitedInputStream(super.getInputStream(), maxBodyBytes);
+            }
+            return inputStream;
+        }
+
+        @Override
+        public BufferedReader getReader() throws IOException {
+            String encoding = getCharacterEncoding();
+            Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+            return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+        }
+    }
+
+    private static final class LimitedInputStream extends ServletInputStream {
+
+        private final ServletInputStream delegate;
+        private final long maxBytes;
+        private long count;
+
+        private LimitedInputStream(ServletInputStream delegate, long maxBytes) {
+            this.delegate = delegate;
+            this.maxBytes = maxBytes;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = delegate.read();
+            if (b != -1) {
+                count(1);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = delegate.read(b, off, len);
+            if (read > 0) {
+                count(read);
+            }
+            return read;
+        }
+
+        private void count(int read) {
+            count += read;
+            if (count > maxBytes) {
+                throw new GeneralException(ErrorStatus.IMAGE_TOO_LARGE);
+            }
+        }
+
+        @Override
+        public boolean isFinished() {
+            return delegate.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return delegate.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            delegate.setReadListener(readListener);
+        }
+    }
+}
@@ -7,9 +7,12 @@ import jakarta.validation.ConstraintViolationException;
 import java.util.List;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.bind.support.WebExchangeBindException;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
 
 @Slf4j
 @RestControllerAdvice
@@ -53,6 +56,22 @@ public class GlobalExceptionHandler {
                 .body(ApiResult.onFailure(ErrorStatus.BAD_REQUEST, errors));
     }
 
+    /**
+     * reactive 배포의 @Valid 실패
+     */
+    @ExceptionHandler(WebExchangeBindException.class)
+    public ResponseEntity<ApiResult<Object>> handleWebExchangeBindException(
+            WebExchangeBindException ex
+    ) {
+        List<String> errors = ex.getBindingResult().getFieldErrors().stream()
+                .map(e -> e.getField() + ": " + e.getDefaultMessage())
+                .toList();
+
+        return ResponseEntity
+                .status(ErrorStatus.BAD_REQUEST.getHttpStatus())
+                .body(ApiResult.onFailure(ErrorStatus.BAD_REQUEST, errors));
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ApiResult<Object>> handleConstraintViolationException(
             ConstraintViolationException ex
@@ -65,4 +84,32 @@ public class GlobalExceptionHandler {
                 .status(ErrorStatus.BAD_REQUEST.getHttpStatus())
                 .body(ApiResult.onFailure(ErrorStatus.BAD_REQUEST, errors));
     }
+
+    /**
+     * 요청 본문 역직렬화 실패
+     * - 커스텀 deserializer(Base64Image 등)가 던진 GeneralException은 그대로 응답
+     */
+    @ExceptionHandler(HttpMessageNotReadableException.class)
+    public ResponseEntity<ApiResult<Object>> handleHttpMessageNotReadableException(
+            HttpMessageNotReadableException ex
+    ) {
+        for (Throwable cause = ex.getCause(); cause != null; cause = cause.getCause()) {
+            if (cause instanceof GeneralException generalException) {
+                return handleGeneralException(generalException);
+            }
+        }
+
+        return ResponseEntity
+                .status(ErrorStatus.BAD_REQUEST.getHttpStatus())
+                .body(ApiResult.onFailure(ErrorStatus.BAD_REQUEST, null));
+    }
+
+    @ExceptionHandler(MaxUploadSizeExceededException.class)
+    public ResponseEntity<ApiResult<Object>> handleMaxUploadSizeExceededException(
+            MaxUploadSizeExceededException ex
+    ) {
+        return ResponseEntity
+                .status(ErrorStatus.IMAGE_TOO_LARGE.getHttpStatus())
+                .body(ApiResult.onFailure(ErrorStatus.IMAGE_TOO_LARGE, null));
+    }
 }
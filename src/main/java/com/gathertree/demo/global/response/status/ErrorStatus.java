@@ -26,12 +26,18 @@ public enum ErrorStatus {
     // ===== Image =====
     INVALID_IMAGE_FORMAT(HttpStatus.BAD_REQUEST, "IMAGE_4000",
             "유효하지 않은 이미지 형식입니다."),
+    IMAGE_TOO_LARGE(HttpStatus.PAYLOAD_TOO_LARGE, "IMAGE_4130",
+            "이미지 용량이 너무 큽니다."),
     IMAGE_UPLOAD_FAIL(HttpStatus.INTERNAL_SERVER_ERROR, "IMAGE_5000",
             "이미지 업로드에 실패했습니다."),
 
     // ===== AI Evaluation =====
     EVALUATION_NOT_ALLOWED(HttpStatus.BAD_REQUEST, "AI_4000",
             "장식이 10개 모두 모였을 때만 평가할 수 있습니다."),
+    EVALUATION_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "AI_4040",
+            "평가 작업을 찾을 수 없습니다."),
+    EVALUATION_IN_PROGRESS(HttpStatus.CONFLICT, "AI_4090",
+            "같은 트리의 평가가 진행 중입니다. 잠시 후 다시 시도해주세요."),
     AI_API_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, "AI_5000",
             "AI 평가 중 오류가 발생했습니다.");
 
@@ -0,0 +1,14 @@
+package com.gathertree.demo.global.util;
+
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * 요청 본문의 data URL 이미지 (디코딩 완료)
+ * - 역직렬화 시점에 문자 버퍼에서 바로 디코딩 (Base64ImageDeserializer)
+ * - 원본 base64 문자열은 보관하지 않음
+ */
+@Schema(type = "string", description = "data URL 형식 base64 이미지 (data:image/png;base64,...)")
+@JsonDeserialize(using = Base64ImageDeserializer.class)
+public record Base64Image(byte[] bytes) {
+}
@@ -0,0 +1,58 @@
+package com.gathertree.demo.global.util;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.BeanProperty;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.deser.ContextualDeserializer;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+
+import java.io.IOException;
+
+/**
+ * imageBase64 필드 역직렬화
+ * - 파서의 문자 버퍼를 그대로 디코딩해 String 생성 / substring 복사를 생략
+ * - 필드에 @PngImage가 있으면 디코딩 전에 용량, 디코딩 후 PNG 헤더 검증
+ */
+public class Base64ImageDeserializer extends JsonDeserializer<Base64Image>
+        implements ContextualDeserializer {
+
+    // null = 규격 검증 없음
+    private final PngImageSpec spec;
+
+    public Base64ImageDeserializer() {
+        this(null);
+    }
+
+    private Base64ImageDeserializer(PngImageSpec spec) {
+        this.spec = spec;
+    }
+
+    @Override
+    public JsonDeserializer<?> createContextual(DeserializationContext ctxt, BeanProperty property) {
+        PngImage pngImage = property == null ? null : property.getAnnotation(PngImage.class);
+        return pngImage == null ? this : new Base64ImageDeserializer(pngImage.value());
+    }
+
+    @Override
+    public Base64Image deserialize(JsonParser p, DeserializationContext ctxt) throws IOException {
+        if (!p.hasToken(JsonToken.VALUE_STRING)) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        byte[] image = Base64ImageUtil.decode(
+                p.getTextCharacters(),
+                p.getTextOffset(),
+                p.getTextLength(),
+                spec == null ? Integer.MAX_VALUE : spec.getMaxBytes()
+        );
+
+        if (spec != null) {
+            PngImageValidator.validate(image, spec);
+        }
+
+        return new Base64Image(image);
+    }
+}
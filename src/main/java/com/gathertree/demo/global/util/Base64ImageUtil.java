@@ -3,35 +3,121 @@ package com.gathertree.demo.global.util;
 import com.gathertree.demo.global.response.exception.GeneralException;
 import com.gathertree.demo.global.response.status.ErrorStatus;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.Base64;
 
 public class Base64ImageUtil {
 
-    public static byte[] decode(String base64) {
-        // 1️⃣ null / blank 방어
-        if (base64 == null || base64.isBlank()) {
+    private static final char[] DATA_URL_PREFIX = "data:image".toCharArray();
+
+    /**
+     * 문자 배열 구간을 그대로 디코딩 (String 생성 / substring 복사 없음)
+     * - 디코딩 결과 크기를 미리 계산해 byte[]는 한 번만 할당
+     * - maxBytes를 넘으면 할당 전에 거절
+     */
+    public static byte[] decode(char[] chars, int offset, int length, int maxBytes) {
+        int end = offset + length;
+
+        // 1️⃣ data URL 형식 검증
+        if (length < DATA_URL_PREFIX.length) {
             throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
         }
+        for (int i = 0; i < DATA_URL_PREFIX.length; i++) {
+            if (chars[offset + i] != DATA_URL_PREFIX[i]) {
+                throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+            }
+        }
 
-        // 2️⃣ data URL 형식 검증
-        if (!base64.startsWith("data:image")) {
+        // 2️⃣ 콤마 위치
+        int start = -1;
+        for (int i = offset + DATA_URL_PREFIX.length; i < end; i++) {
+            if (chars[i] == ',') {
+                start = i + 1;
+                break;
+            }
+        }
+        if (start < 0) {
             throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
         }
 
-        // 3️⃣ 콤마 존재 여부
-        int commaIndex = base64.indexOf(',');
-        if (commaIndex < 0) {
-            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        // 3️⃣ 디코딩 크기 계산 후 스트리밍 디코딩
+        int decodedLength = decodedLength(chars, start, end);
+        if (decodedLength > maxBytes) {
+            throw new GeneralException(ErrorStatus.IMAGE_TOO_LARGE);
         }
 
-        // 4️⃣ 실제 base64 부분 추출
-        String encoded = base64.substring(commaIndex + 1);
+        byte[] image = new byte[decodedLength];
 
-        try {
-            return Base64.getDecoder().decode(encoded);
-        } catch (IllegalArgumentException e) {
-            // 5️⃣ base64 자체가 깨진 경우
+        try (InputStream in = Base64.getDecoder().wrap(new AsciiCharInputStream(chars, start, end))) {
+            int read = in.readNBytes(image, 0, decodedLength);
+            if (read != decodedLength || in.read() != -1) {
+                throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+            }
+        } catch (IOException e) {
+            // 4️⃣ base64 자체가 깨진 경우
             throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT, e);
         }
+
+        return image;
+    }
+
+    private static int decodedLength(char[] chars, int start, int end) {
+        int length = end - start;
+
+        int padding = 0;
+        while (padding < 2 && length - padding > 0 && chars[end - 1 - padding] == '=') {
+            padding++;
+        }
+
+        int significant = length - padding;
+        if (significant == 0 || significant % 4 == 1) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        int remainder = significant % 4;
+        return significant / 4 * 3 + (remainder == 0 ? 0 : remainder - 1);
+    }
+
+    /**
+     * base64 문자 → ASCII byte
+     * - ASCII 밖의 문자는 디코더가 거절하도록 잘못된 문자로 치환
+     */
+    private static final class AsciiCharInputStream extends InputStream {
+
+        private final char[] chars;
+        private final int end;
+        private int position;
+
+        private AsciiCharInputStream(char[] chars, int start, int end) {
+            this.chars = chars;
+            this.position = start;
+            this.end = end;
+        }
+
+        @Override
+        public int read() {
+            return position < end ? toAscii(chars[position++]) : -1;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            if (len == 0) {
+                return 0;
+            }
+            if (position >= end) {
+                return -1;
+            }
+
+            int count = Math.min(len, end - position);
+            for (int i = 0; i < count; i++) {
+                b[off + i] = (byte) toAscii(chars[position++]);
+            }
+            return count;
+        }
+
+        private static int toAscii(char c) {
+            return c < 0x80 ? c : '!';
+        }
     }
 }
@@ -0,0 +1,39 @@
+package com.gathertree.demo.global.util;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * multipart 이미지 part 읽기 (base64 없이 바이너리 그대로)
+ */
+public class MultipartImageUtil {
+
+    public static byte[] read(MultipartFile file, PngImageSpec spec) {
+        // 1️⃣ 누락 / 빈 part
+        if (file == null || file.isEmpty()) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        // 2️⃣ 선언된 크기로 먼저 거절
+        if (file.getSize() > spec.getMaxBytes()) {
+            throw new GeneralException(ErrorStatus.IMAGE_TOO_LARGE);
+        }
+
+        // 3️⃣ 상한 + 1 byte까지만 읽음 (크기 초과는 검증에서 거절)
+        byte[] image;
+        try (InputStream in = file.getInputStream()) {
+            image = in.readNBytes(spec.getMaxBytes() + 1);
+        } catch (IOException e) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT, e);
+        }
+
+        // 4️⃣ PNG 시그니처 / IHDR 크기
+        PngImageValidator.validate(image, spec);
+
+        return image;
+    }
+}
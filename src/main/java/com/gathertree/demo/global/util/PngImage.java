@@ -0,0 +1,17 @@
+package com.gathertree.demo.global.util;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Base64Image 필드의 PNG 규격
+ * - 역직렬화 시점에 용량 / 시그니처 / IHDR 크기 검증
+ */
+@Target({ElementType.FIELD, ElementType.METHOD, ElementType.PARAMETER})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface PngImage {
+
+    PngImageSpec value();
+}
@@ -0,0 +1,19 @@
+package com.gathertree.demo.global.util;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 업로드 PNG 규격
+ */
+@Getter
+@RequiredArgsConstructor
+public enum PngImageSpec {
+
+    TREE(160, 192, 256 * 1024),
+    DECORATION(32, 32, 32 * 1024);
+
+    private final int width;
+    private final int height;
+    private final int maxBytes;
+}
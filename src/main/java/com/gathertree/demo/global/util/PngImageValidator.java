@@ -0,0 +1,82 @@
+package com.gathertree.demo.global.util;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+
+import java.util.zip.CRC32;
+
+/**
+ * PNG 헤더 검증 (ImageIO 디코딩 없이 바이트 직접 확인)
+ * - 시그니처 8 byte
+ * - 첫 청크가 IHDR(길이 13)인지 + CRC
+ * - IHDR의 width / height
+ */
+public class PngImageValidator {
+
+    private static final byte[] SIGNATURE = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    private static final byte[] IHDR = {'I', 'H', 'D', 'R'};
+    private static final int IHDR_LENGTH = 13;
+
+    // signature(8) + length(4) + type(4) + data(13) + crc(4)
+    private static final int HEADER_BYTES = 33;
+
+    public static void validate(byte[] image, PngImageSpec spec) {
+        validate(image, image.length, spec);
+    }
+
+    /**
+     * @param image     PNG 전체 또는 앞부분 (최소 33 byte, S3 range GET 결과 등)
+     * @param totalSize 전체 파일 크기
+     */
+    public static void validate(byte[] image, long totalSize, PngImageSpec spec) {
+
+        // 1️⃣ 용량
+        if (totalSize > spec.getMaxBytes()) {
+            throw new GeneralException(ErrorStatus.IMAGE_TOO_LARGE);
+        }
+
+        // 2️⃣ 시그니처
+        if (image.length < HEADER_BYTES || !matches(image, 0, SIGNATURE)) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        // 3️⃣ IHDR 청크
+        if (readInt(image, 8) != IHDR_LENGTH || !matches(image, 12, IHDR)) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        CRC32 crc = new CRC32();
+        crc.update(image, 12, IHDR.length + IHDR_LENGTH);
+        if ((int) crc.getValue() != readInt(image, 29)) {
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+        }
+
+        // 4️⃣ 픽셀 크기
+        int width = readInt(image, 16);
+        int height = readInt(image, 20);
+        if (width != spec.getWidth() || height != spec.getHeight()) {
+            throw new GeneralException(
+                    ErrorStatus.INVALID_IMAGE_FORMAT,
+                    "이미지 크기는 " + spec.getWidth() + "×" + spec.getHeight() + " 이어야 합니다."
+            );
+        }
+    }
+
+    private static boolean matches(byte[] image, int offset, byte[] expected) {
+        for (int i = 0; i < expected.length; i++) {
+            if (image[offset + i] != expected[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int readInt(byte[] image, int offset) {
+        return ((image[offset] & 0xFF) << 24)
+                | ((image[offset + 1] & 0xFF) << 16)
+                | ((image[offset + 2] & 0xFF) << 8)
+                | (image[offset + 3] & 0xFF);
+    }
+}
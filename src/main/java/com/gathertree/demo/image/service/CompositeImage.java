@@ -0,0 +1,9 @@
+package com.gathertree.demo.image.service;
+
+/**
+ * 서버에서 합성한 최종 트리 PNG
+ *
+ * @param revision 합성 기준 트리 revision
+ */
+public record CompositeImage(long revision, byte[] png) {
+}
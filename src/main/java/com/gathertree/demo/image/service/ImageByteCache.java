@@ -0,0 +1,91 @@
+package com.gathertree.demo.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.util.regex.Pattern;
+
+/**
+ * 트리 이미지 바이트 캐시 (off-heap)
+ * - key: S3 object key (불변 object만)
+ * - 값은 direct ByteBuffer에 보관해 힙 / GC 부담 없이 유지
+ * - 업로드 시 채우고, 다운로드 시 read-through
+ *
+ * 캐시 대상은 한 번 쓰면 바뀌지 않는 key만
+ * - trees/{uuid}/decorations/{id}.png
+ * - trees/{uuid}/base-{uploadId}.png (직접 업로드)
+ * 덮어쓰기가 있는 base.png는 캐시하지 않음 (read-through GET과 무효화 순서가 꼬이면 이전 바이트가 남음)
+ *
+ * expire-after-write는 삭제된 object 등이 남지 않도록 하는 보조 장치
+ * direct 메모리는 GC 시 반환되므로 -XX:MaxDirectMemorySize는 maximum-bytes보다 여유 있게 설정
+ */
+@Component
+public class ImageByteCache {
+
+    private static final Pattern IMMUTABLE_KEY =
+            Pattern.compile("^trees/[^/]+/(decorations/[^/]+|base-[^/]+)\\.png$");
+
+    private final boolean enabled;
+    private final Cache<String, ByteBuffer> cache;
+
+    public ImageByteCache(
+            MeterRegistry meterRegistry,
+            @Value("${gathertree.image.byte-cache.enabled:true}") boolean enabled,
+            @Value("${gathertree.image.byte-cache.maximum-bytes:67108864}") long maximumBytes,
+            @Value("${gathertree.image.byte-cache.expire-after-write:PT1H}") Duration expireAfterWrite
+    ) {
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String key, ByteBuffer buffer) -> buffer.capacity())
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "image.byte-cache");
+        Gauge.builder("image.byte-cache.bytes", cache,
+                        c -> c.policy().eviction().map(e -> e.weightedSize().orElse(0L)).orElse(0L))
+                .description("off-heap에 보관 중인 이미지 바이트 수")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    /**
+     * @return 캐시된 이미지 (힙 복사본), 없으면 null
+     */
+    public byte[] get(String key) {
+        if (!enabled) {
+            return null;
+        }
+
+        ByteBuffer buffer = cache.getIfPresent(key);
+        if (buffer == null) {
+            return null;
+        }
+
+        byte[] image = new byte[buffer.capacity()];
+        buffer.duplicate().get(0, image);
+        return image;
+    }
+
+    public void put(String key, byte[] image) {
+        if (!enabled || !IMMUTABLE_KEY.matcher(key).matches()) {
+            return;
+        }
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(image.length);
+        buffer.put(0, image);
+        cache.put(key, buffer.asReadOnlyBuffer());
+    }
+
+    public void evict(String key) {
+        cache.invalidate(key);
+    }
+}
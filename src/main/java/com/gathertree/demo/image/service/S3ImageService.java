@@ -5,15 +5,32 @@ import com.gathertree.demo.global.response.status.ErrorStatus;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 public class S3ImageService {
 
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final ImageByteCache imageByteCache;
+
+    // signature(8) + IHDR 청크(25)
+    private static final int PNG_HEADER_BYTES = 33;
 
     /**
      * S3 버킷 이름
@@ -48,8 +65,25 @@ public class S3ImageService {
         return upload(image, key);
     }
 
+    /**
+     * ❌ overwrite 금지 (비동기)
+     * - 요청 스레드를 점유하지 않고 업로드 완료 시 public URL로 완료
+     */
+    public CompletableFuture<String> uploadNewAsync(byte[] image, String key) {
+        return uploadAsync(image, key);
+    }
+
+    /**
+     * ✅ overwrite 허용 (비동기)
+     */
+    public CompletableFuture<String> overwriteAsync(byte[] image, String key) {
+        return uploadAsync(image, key);
+    }
+
     /**
      * 실제 S3 업로드 공통 로직
+     * - fromBytes는 배열을 한 번 더 복사하므로 스트림으로 전달
+     * - 업로드한 바이트는 이미지 캐시에 보관 (이후 합성 시 S3 재다운로드 생략)
      */
     private String upload(byte[] image, String key) {
         try {
@@ -59,7 +93,11 @@ public class S3ImageService {
                     .contentType("image/png")
                     .build();
 
-            s3Client.putObject(request, RequestBody.fromBytes(image));
+            s3Client.putObject(
+                    request,
+                    RequestBody.fromInputStream(new ByteArrayInputStream(image), image.length)
+            );
+            imageByteCache.put(key, image);
 
             return publicUrl + "/" + key;
 
@@ -67,4 +105,149 @@ public class S3ImageService {
             throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAIL, e);
         }
     }
+
+    /**
+     * 비동기 S3 업로드 공통 로직
+     * - 디코딩된 배열은 이후 변경되지 않으므로 복사 없이 전달 (fromBytesUnsafe)
+     */
+    private CompletableFuture<String> uploadAsync(byte[] image, String key) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType("image/png")
+                .contentLength((long) image.length)
+                .build();
+
+        return s3AsyncClient.putObject(request, AsyncRequestBody.fromBytesUnsafe(image))
+                .handle((response, e) -> {
+                    if (e != null) {
+                        throw new GeneralException(
+                                ErrorStatus.IMAGE_UPLOAD_FAIL,
+                                e instanceof CompletionException ? e.getCause() : e
+                        );
+                    }
+                    imageByteCache.put(key, image);
+                    return publicUrl + "/" + key;
+                });
+    }
+
+    /**
+     * 비동기 다운로드 (서버 합성용)
+     * - 이미지 캐시 read-through (불변 key만 캐시, base.png는 항상 S3에서 읽음)
+     */
+    public CompletableFuture<byte[]> downloadAsync(String key) {
+        byte[] cached = imageByteCache.get(key);
+        if (cached != null) {
+            return CompletableFuture.completedFuture(cached);
+        }
+
+        GetObjectRequest request = GetObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .build();
+
+        return s3AsyncClient.getObject(request, AsyncResponseTransformer.toBytes())
+                .thenApply(response -> {
+                    byte[] image = response.asByteArrayUnsafe();
+                    imageByteCache.put(key, image);
+                    return image;
+                });
+    }
+
+    /**
+     * public URL → object key
+     */
+    public String keyOf(String url) {
+        String prefix = publicUrl + "/";
+        if (url == null || !url.startsWith(prefix)) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "버킷 이미지 URL이 아닙니다: " + url
+            );
+        }
+        return url.substring(prefix.length());
+    }
+
+    /**
+     * 클라이언트가 직접 업로드한 object 확인 (본문은 받지 않음)
+     * - PNG 헤더(33 byte)만 range GET, 전체 크기는 Content-Range로 확인
+     * - Content-Type / ETag도 같은 응답에서 읽으므로 검증 대상과 복사 대상이 같은 버전
+     *
+     * @return object가 없으면 null
+     */
+    public UploadedImage inspectUploaded(String key) {
+        try {
+            ResponseBytes<GetObjectResponse> response = s3Client.getObjectAsBytes(
+                    b -> b.bucket(bucket)
+                            .key(key)
+                            .range("bytes=0-" + (PNG_HEADER_BYTES - 1))
+            );
+
+            String contentRange = response.response().contentRange();
+            long size = contentRange != null
+                    ? Long.parseLong(contentRange.substring(contentRange.lastIndexOf('/') + 1))
+                    : response.response().contentLength();
+
+            return new UploadedImage(
+                    size,
+                    response.response().contentType(),
+                    response.response().eTag(),
+                    response.asByteArrayUnsafe()
+            );
+
+        } catch (NoSuchKeyException e) {
+            return null;
+        } catch (S3Exception e) {
+            // 빈 object (416)
+            if (e.statusCode() == 416) {
+                throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+            }
+            throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAIL, e);
+        }
+    }
+
+    /**
+     * 검증한 업로드를 최종 key로 서버 측 복사
+     * - 검증 시점 ETag 조건부 (그 사이 같은 key에 다시 업로드된 object는 복사하지 않음)
+     * - 본문은 앱 서버를 거치지 않음 (이미지 캐시는 첫 합성 시 채워짐)
+     */
+    public String copyVerified(String sourceKey, String destinationKey, UploadedImage uploaded) {
+        try {
+            s3Client.copyObject(
+                    b -> b.sourceBucket(bucket)
+                            .sourceKey(sourceKey)
+                            .destinationBucket(bucket)
+                            .destinationKey(destinationKey)
+                            .copySourceIfMatch(uploaded.eTag())
+            );
+        } catch (S3Exception e) {
+            if (e.statusCode() == 412) {
+                throw new GeneralException(ErrorStatus.BAD_REQUEST, "검증 이후 업로드된 이미지가 변경되었습니다.");
+            }
+            throw new GeneralException(ErrorStatus.IMAGE_UPLOAD_FAIL, e);
+        }
+
+        return publicUrl + "/" + destinationKey;
+    }
+
+    /**
+     * object 존재 여부 (HEAD)
+     */
+    public boolean exists(String key) {
+        try {
+            s3Client.headObject(b -> b.bucket(bucket).key(key));
+            return true;
+        } catch (NoSuchKeyException e) {
+            return false;
+        }
+    }
+
+    public void delete(String key) {
+        s3Client.deleteObject(b -> b.bucket(bucket).key(key));
+        imageByteCache.evict(key);
+    }
+
+    public String urlOf(String key) {
+        return publicUrl + "/" + key;
+    }
 }
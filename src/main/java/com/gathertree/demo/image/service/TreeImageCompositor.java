@@ -0,0 +1,278 @@
+package com.gathertree.demo.image.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.global.util.PngImageSpec;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 최종 트리 이미지 서버 합성
+ * - base(160×192) 위에 장식(32×32)을 orderIndex 슬롯에 배치
+ * - 슬롯: 위에서부터 1 / 2 / 3 / 4 개 (삼각형 트리)
+ *
+ * 할당 최소화
+ * - 합성 결과는 트리 revision 단위로 캐싱 (같은 revision은 다시 합성하지 않음)
+ * - 캔버스(BufferedImage) / PNG ImageWriter는 풀에서 재사용
+ * - 장식 이미지는 한 번 업로드되면 바뀌지 않으므로 디코딩 결과를 URL 단위로 캐싱
+ *
+ * 깨진 장식(다운로드 실패 / 규격 위반 / 디코딩 실패)은 로그만 남기고 빈 슬롯으로 합성
+ */
+@Slf4j
+@Component
+public class TreeImageCompositor {
+
+    private static final int WIDTH = PngImageSpec.TREE.getWidth();
+    private static final int HEIGHT = PngImageSpec.TREE.getHeight();
+    private static final int SLOT_SIZE = PngImageSpec.DECORATION.getWidth();
+
+    private static final int[] ROW_SIZES = {1, 2, 3, 4};
+    private static final int TOP = 40;
+    private static final int GAP = 4;
+    private static final int[][] SLOTS = buildSlots();
+
+    private final S3ImageService s3ImageService;
+    private final Cache<String, CompositeImage> renderCache;
+    private final Cache<String, BufferedImage> decorationCache;
+
+    private final BlockingQueue<BufferedImage> canvasPool;
+    private final BlockingQueue<ImageWriter> writerPool;
+
+    public TreeImageCompositor(
+            S3ImageService s3ImageService,
+            MeterRegistry meterRegistry,
+            @Value("${gathertree.ai.composite.pool-size:4}") int poolSize,
+            @Value("${gathertree.ai.composite.cache-maximum-bytes:16777216}") long cacheMaximumBytes
+    ) {
+        this.s3ImageService = s3ImageService;
+        this.canvasPool = new ArrayBlockingQueue<>(poolSize);
+        this.writerPool = new ArrayBlockingQueue<>(poolSize);
+
+        this.renderCache = Caffeine.newBuilder()
+                .maximumWeight(cacheMaximumBytes)
+                .weigher((String uuid, CompositeImage image) -> image.png().length)
+                .recordStats()
+                .build();
+
+        // 32×32 ARGB = 4KB
+        this.decorationCache = Caffeine.newBuilder()
+                .maximumSize(2_000)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, renderCache, "tree.composite-cache");
+        CaffeineCacheMetrics.monitor(meterRegistry, decorationCache, "tree.decoration-image-cache");
+    }
+
+    /**
+     * 트리 최종 이미지 (PNG bytes)
+     */
+    public CompositeImage render(Tree tree) {
+        CompositeImage cached = renderCache.getIfPresent(tree.getUuid());
+        if (cached != null && cached.revision() == tree.getRevision()) {
+            return cached;
+        }
+
+        // 합성(S3 다운로드 포함)은 캐시 락 밖에서 수행
+        CompositeImage rendered = new CompositeImage(tree.getRevision(), compose(tree));
+
+        return renderCache.asMap().merge(
+                tree.getUuid(),
+                rendered,
+                (current, candidate) -> current.revision() >= candidate.revision() ? current : candidate
+        );
+    }
+
+    private byte[] compose(Tree tree) {
+        List<Decoration> decorations = tree.getDecorations();
+
+        /* =========================
+           1️⃣ 이미지 병렬 다운로드
+           ========================= */
+        CompletableFuture<byte[]> baseFuture =
+                s3ImageService.downloadAsync(s3ImageService.keyOf(tree.getBaseImageUrl()));
+
+        Map<String, BufferedImage> images = new HashMap<>();
+        Map<String, CompletableFuture<byte[]>> downloads = new HashMap<>();
+        for (Decoration decoration : decorations) {
+            String url = decoration.getImageUrl();
+            BufferedImage cached = decorationCache.getIfPresent(url);
+            if (cached != null) {
+                images.put(url, cached);
+            } else if (!downloads.containsKey(url)) {
+                downloads.put(url, s3ImageService.downloadAsync(s3ImageService.keyOf(url)));
+            }
+        }
+
+        // 베이스 이미지는 필수
+        BufferedImage base;
+        try {
+            base = decode(baseFuture.join(), PngImageSpec.TREE);
+        } catch (CompletionException e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 이미지 합성 중 오류가 발생했습니다.",
+                    e.getCause()
+            );
+        }
+
+        // 장식은 하나가 깨져도 나머지로 합성 (해당 슬롯만 비움)
+        downloads.forEach((url, download) -> {
+            try {
+                BufferedImage image = decode(download.join(), PngImageSpec.DECORATION);
+                decorationCache.put(url, image);
+                images.put(url, image);
+            } catch (CompletionException | GeneralException e) {
+                log.warn("[TreeImageCompositor] 장식 이미지 생략 uuid={} url={}", tree.getUuid(), url, e);
+            }
+        });
+
+        /* =========================
+           2️⃣ 캔버스 합성
+           ========================= */
+        BufferedImage canvas = borrowCanvas();
+        try {
+            Graphics2D g = canvas.createGraphics();
+            try {
+                g.setComposite(AlphaComposite.Clear);
+                g.fillRect(0, 0, WIDTH, HEIGHT);
+                g.setComposite(AlphaComposite.SrcOver);
+
+                g.drawImage(base, 0, 0, WIDTH, HEIGHT, null);
+
+                for (Decoration decoration : decorations) {
+                    int index = decoration.getOrderIndex();
+                    BufferedImage image = images.get(decoration.getImageUrl());
+                    if (image == null || index < 0 || index >= SLOTS.length) {
+                        continue;
+                    }
+
+                    g.drawImage(image, SLOTS[index][0], SLOTS[index][1], SLOT_SIZE, SLOT_SIZE, null);
+                }
+            } finally {
+                g.dispose();
+            }
+
+            /* =========================
+               3️⃣ PNG 인코딩
+               ========================= */
+            return encode(canvas);
+
+        } finally {
+            canvasPool.offer(canvas);
+        }
+    }
+
+    private byte[] encode(BufferedImage canvas) {
+        ImageWriter writer = borrowWriter();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(PngImageSpec.TREE.getMaxBytes() / 4);
+
+        try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+            writer.setOutput(output);
+            writer.write(canvas);
+        } catch (IOException e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 이미지 인코딩 중 오류가 발생했습니다.",
+                    e
+            );
+        } finally {
+            writer.reset();
+            writerPool.offer(writer);
+        }
+
+        return out.toByteArray();
+    }
+
+    /**
+     * 헤더의 크기를 규격과 비교한 뒤 디코딩
+     * - 규격과 다른 이미지는 픽셀 버퍼를 할당하기 전에 거절
+     */
+    private BufferedImage decode(byte[] png, PngImageSpec spec) {
+        try (ImageInputStream input = ImageIO.createImageInputStream(new ByteArrayInputStream(png))) {
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+
+                if (reader.getWidth(0) != spec.getWidth() || reader.getHeight(0) != spec.getHeight()) {
+                    throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+                }
+                return reader.read(0);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException | RuntimeException e) {
+            if (e instanceof GeneralException generalException) {
+                throw generalException;
+            }
+            throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT, e);
+        }
+    }
+
+    private BufferedImage borrowCanvas() {
+        BufferedImage canvas = canvasPool.poll();
+        return canvas != null ? canvas : new BufferedImage(WIDTH, HEIGHT, BufferedImage.TYPE_INT_ARGB);
+    }
+
+    private ImageWriter borrowWriter() {
+        ImageWriter writer = writerPool.poll();
+        return writer != null ? writer : ImageIO.getImageWritersByFormatName("png").next();
+    }
+
+    /**
+     * orderIndex → 슬롯 좌상단 좌표
+     * - 각 줄은 가로 가운데 정렬
+     */
+    private static int[][] buildSlots() {
+        int count = 0;
+        for (int size : ROW_SIZES) {
+            count += size;
+        }
+
+        int[][] slots = new int[count][];
+        int index = 0;
+        for (int row = 0; row < ROW_SIZES.length; row++) {
+            int size = ROW_SIZES[row];
+            int rowWidth = size * SLOT_SIZE + (size - 1) * GAP;
+            int x = (WIDTH - rowWidth) / 2;
+            int y = TOP + row * (SLOT_SIZE + GAP);
+
+            for (int i = 0; i < size; i++) {
+                slots[index++] = new int[]{x + i * (SLOT_SIZE + GAP), y};
+            }
+        }
+        return slots;
+    }
+}
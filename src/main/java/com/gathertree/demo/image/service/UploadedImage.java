@@ -0,0 +1,11 @@
+package com.gathertree.demo.image.service;
+
+/**
+ * 클라이언트가 S3에 직접 업로드한 이미지 (헤더만 읽은 상태)
+ *
+ * @param size   object 전체 크기
+ * @param eTag   확인 시점 ETag (검증한 내용 그대로만 복사하기 위함)
+ * @param header 앞부분 bytes (PNG 시그니처 + IHDR)
+ */
+public record UploadedImage(long size, String contentType, String eTag, byte[] header) {
+}
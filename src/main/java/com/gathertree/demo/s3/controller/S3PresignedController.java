@@ -1,6 +1,8 @@
 package com.gathertree.demo.s3.controller;
 
 import com.gathertree.demo.global.response.ApiResult;
+import com.gathertree.demo.s3.dto.PresignedPostResponse;
+import com.gathertree.demo.s3.dto.PresignedUrlBatchRequest;
 import com.gathertree.demo.s3.dto.PresignedUrlRequest;
 import com.gathertree.demo.s3.dto.PresignedUrlResponse;
 import com.gathertree.demo.s3.service.S3PresignedService;
@@ -11,13 +13,17 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(
         name = "S3",
         description = "S3 Presigned URL 발급 API"
 )
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/s3")
 @RequiredArgsConstructor
 public class S3PresignedController {
@@ -51,4 +57,59 @@ public class S3PresignedController {
                 s3PresignedService.generatePresignedPutUrl(request.getKey())
         );
     }
+
+    @Operation(
+            summary = "S3 Presigned PUT URL 일괄 발급",
+            description = """
+            여러 이미지를 업로드할 때 Presigned PUT URL을 한 번에 발급합니다.
+            
+            - 최대 10개, eval/tmp/ 경로만 허용
+            - 업로드 유효 시간: 5분
+            - contentType / contentLength는 서명에 포함되므로 업로드 시 동일하게 보내야 합니다.
+            - 응답 목록은 요청 순서와 같습니다.
+            """
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Presigned URL 일괄 발급 성공"
+    )
+    @ApiResponse(
+            responseCode = "400",
+            description = "key 경로 / 중복 / contentType / contentLength 오류"
+    )
+    @PostMapping("/presigned-urls")
+    public ApiResult<List<PresignedUrlResponse>> issuePresignedUrls(
+            @Valid @RequestBody PresignedUrlBatchRequest request
+    ) {
+        return ApiResult.onSuccess(
+                s3PresignedService.generatePresignedPutUrls(request.getItems())
+        );
+    }
+
+    @Operation(
+            summary = "S3 Presigned POST 발급 (평가 이미지)",
+            description = """
+            평가용 합성 이미지를 S3에 직접 업로드하기 위한 POST policy를 발급합니다.
+            
+            - key는 서버가 생성합니다. (eval/tmp/{uuid}.png)
+            - Content-Type: image/png, 최대 크기는 응답의 maxBytes
+            - 조건을 벗어난 업로드는 S3가 403으로 거절합니다.
+            - 업로드: uploadUrl로 multipart/form-data POST (fields 전부 + 마지막에 file)
+            - 업로드 유효 시간: 5분
+            """
+    )
+    @ApiResponse(
+            responseCode = "200",
+            description = "Presigned POST 발급 성공",
+            content = @Content(
+                    mediaType = "application/json",
+                    schema = @Schema(implementation = PresignedPostResponse.class)
+            )
+    )
+    @PostMapping("/presigned-post")
+    public ApiResult<PresignedPostResponse> issuePresignedPost() {
+        return ApiResult.onSuccess(
+                s3PresignedService.generatePresignedPost()
+        );
+    }
 }
@@ -0,0 +1,37 @@
+package com.gathertree.demo.s3.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "Presigned POST 발급 응답")
+public class PresignedPostResponse {
+
+    @Schema(
+            description = "multipart/form-data POST 업로드 URL",
+            example = "https://gathertree.s3.ap-northeast-2.amazonaws.com/"
+    )
+    private String uploadUrl;
+
+    @Schema(description = "form 필드 (모두 그대로 포함하고, 마지막에 file 필드 추가)")
+    private Map<String, String> fields;
+
+    @Schema(
+            description = "서버가 생성한 object key (평가 요청 imageKey로 사용)",
+            example = "eval/tmp/abcd-1234.png"
+    )
+    private String key;
+
+    @Schema(
+            description = "업로드 완료 후 접근 가능한 public 이미지 URL",
+            example = "https://cdn.beour.store/eval/tmp/abcd-1234.png"
+    )
+    private String publicUrl;
+
+    @Schema(description = "업로드 가능한 최대 바이트 수", example = "262144")
+    private long maxBytes;
+}
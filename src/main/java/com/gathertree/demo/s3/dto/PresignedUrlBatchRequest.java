@@ -0,0 +1,54 @@
+package com.gathertree.demo.s3.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "Presigned URL 일괄 발급 요청")
+public class PresignedUrlBatchRequest {
+
+    @Schema(description = "업로드할 object 목록 (최대 10개, 응답은 같은 순서)")
+    @NotEmpty(message = "업로드 대상 목록은 비어 있을 수 없습니다.")
+    @Size(max = 10, message = "한 번에 최대 10개까지 발급할 수 있습니다.")
+    private List<@Valid Item> items;
+
+    @Getter
+    @Schema(description = "업로드 대상 object")
+    public static class Item {
+
+        @Schema(description = "S3 object key (eval/tmp/ 경로만 허용)", example = "eval/tmp/abcd-1234.png")
+        @NotBlank(message = "S3 object key는 필수입니다.")
+        private String key;
+
+        @Schema(
+                description = "업로드 Content-Type (서명에 포함)",
+                allowableValues = {"image/png", "image/jpeg", "image/webp"},
+                example = "image/png"
+        )
+        @NotNull(message = "contentType은 필수입니다.")
+        @Pattern(
+                regexp = "image/(png|jpeg|webp)",
+                message = "contentType은 image/png, image/jpeg, image/webp 중 하나여야 합니다."
+        )
+        private String contentType = "image/png";
+
+        @Schema(
+                description = "업로드할 바이트 수 (서명에 포함되어 정확히 이 크기만 업로드 가능)",
+                example = "51200"
+        )
+        @NotNull(message = "contentLength는 필수입니다.")
+        @Positive(message = "contentLength는 양수여야 합니다.")
+        @Max(value = 1048576, message = "이미지는 최대 1MB까지 업로드할 수 있습니다.")
+        private Long contentLength;
+    }
+}
@@ -1,19 +1,39 @@
 package com.gathertree.demo.s3.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3ImageMoveService {
 
+    // 삭제 실패한 tmp key 재시도 대기열 (값: "{시도 횟수}|{key}")
+    private static final String PENDING_DELETE_KEY = "s3:pending-deletes";
+
     private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final RedisTemplate<String, String> redisTemplate;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
+    /**
+     * true  : copy만 기다리고 tmp 삭제는 비동기 (실패 시 재시도 대기열)
+     * false : copy → delete 순차 수행
+     */
+    @Value("${gathertree.s3.move.async-delete:true}")
+    private boolean asyncDelete;
+
+    @Value("${gathertree.s3.move.delete-max-attempts:5}")
+    private int deleteMaxAttempts;
+
     public String moveTmpToPublic(String tmpKey) {
 
         if (!tmpKey.startsWith("eval/tmp/")) {
@@ -31,12 +51,87 @@ public class S3ImageMoveService {
         );
 
         // 2️⃣ delete
-        s3Client.deleteObject(
-                b -> b.bucket(bucket)
-                        .key(tmpKey)
-        );
+        if (asyncDelete) {
+            deleteAsync(tmpKey);
+        } else {
+            s3Client.deleteObject(
+                    b -> b.bucket(bucket)
+                            .key(tmpKey)
+            );
+        }
 
         return publicKey;
     }
-}
 
+    /**
+     * 평가 경로에서 기다리지 않는 tmp 삭제
+     * - 실패하면 대기열에 넣고 스케줄러가 재시도
+     */
+    private void deleteAsync(String tmpKey) {
+        s3AsyncClient.deleteObject(b -> b.bucket(bucket).key(tmpKey))
+                .whenComplete((response, e) -> {
+                    if (e != null) {
+                        log.warn("tmp 이미지 삭제 실패, 재시도 대기열에 등록 key={}", tmpKey, e);
+                        enqueueRetry(tmpKey, 1);
+                    }
+                });
+    }
+
+    /**
+     * 삭제 재시도
+     * - 실행 시점 대기열 길이만큼만 처리 (실패분은 다음 실행에서 다시 시도)
+     * - 항목은 꺼내지 않고 회전(RPOPLPUSH 같은 리스트)만 → 삭제 성공 후 제거하므로 인스턴스가 죽어도 유실 없음
+     * - deleteMaxAttempts번 실패하면 error 로그 후 제거 (eval/tmp lifecycle 규칙이 최종 정리)
+     * - S3 삭제는 멱등이라 여러 인스턴스가 같은 key를 지워도 무방
+     * - servlet 배포에서만 실행 (SchedulingConfig)
+     */
+    @Scheduled(fixedDelayString = "${gathertree.s3.move.delete-retry-interval:PT1M}")
+    public void retryPendingDeletes() {
+        Long pending = redisTemplate.opsForList().size(PENDING_DELETE_KEY);
+        if (pending == null || pending == 0) {
+            return;
+        }
+
+        for (long i = 0; i < pending; i++) {
+            String entry = redisTemplate.opsForList().rightPopAndLeftPush(PENDING_DELETE_KEY, PENDING_DELETE_KEY);
+            if (entry == null) {
+                return;
+            }
+
+            // 횟수 없이 key만 있는 항목은 이전 형식
+            int separator = entry.indexOf('|');
+            boolean counted = separator > 0 && entry.substring(0, separator).chars().allMatch(Character::isDigit);
+            int attempts = counted ? Integer.parseInt(entry.substring(0, separator)) : 0;
+            String tmpKey = counted ? entry.substring(separator + 1) : entry;
+
+            try {
+                s3Client.deleteObject(b -> b.bucket(bucket).key(tmpKey));
+                redisTemplate.opsForList().remove(PENDING_DELETE_KEY, 1, entry);
+
+            } catch (Exception e) {
+                // 다른 인스턴스가 먼저 처리한 항목이면 다시 넣지 않음
+                Long removed = redisTemplate.opsForList().remove(PENDING_DELETE_KEY, 1, entry);
+                if (removed == null || removed == 0) {
+                    continue;
+                }
+
+                if (attempts + 1 >= deleteMaxAttempts) {
+                    log.error("tmp 이미지 삭제 재시도 중단 (lifecycle 규칙으로 정리) key={} attempts={}",
+                            tmpKey, attempts + 1, e);
+                } else {
+                    log.warn("tmp 이미지 삭제 재시도 실패 key={} attempts={}", tmpKey, attempts + 1);
+                    enqueueRetry(tmpKey, attempts + 1);
+                }
+            }
+        }
+    }
+
+    private void enqueueRetry(String tmpKey, int attempts) {
+        try {
+            redisTemplate.opsForList().leftPush(PENDING_DELETE_KEY, attempts + "|" + tmpKey);
+        } catch (Exception e) {
+            // eval/tmp lifecycle 규칙으로 정리됨
+            log.error("tmp 이미지 삭제 재시도 등록 실패 key={}", tmpKey, e);
+        }
+    }
+}
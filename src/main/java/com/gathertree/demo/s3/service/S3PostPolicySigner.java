@@ -0,0 +1,129 @@
+package com.gathertree.demo.s3.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.global.config.S3Config;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.auth.credentials.AwsCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.AwsSessionCredentials;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * S3 POST policy 서명 (SigV4)
+ * - AWS SDK v2에는 presigned POST가 없어 직접 구현
+ * - policy 조건을 만족하지 않는 업로드는 S3가 거절
+ * - 서명 시각은 주입된 Clock 기준 (테스트에서 고정)
+ *
+ * https://docs.aws.amazon.com/AmazonS3/latest/API/sigv4-HTTPPOSTConstructPolicy.html
+ */
+@Component
+@RequiredArgsConstructor
+public class S3PostPolicySigner {
+
+    private static final String ALGORITHM = "AWS4-HMAC-SHA256";
+    private static final String SERVICE = "s3";
+    private static final DateTimeFormatter DATE = DateTimeFormatter.ofPattern("yyyyMMdd");
+    private static final DateTimeFormatter DATE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd'T'HHmmss'Z'");
+    private static final DateTimeFormatter EXPIRATION = DateTimeFormatter.ofPattern("yyyy-MM-dd'T'HH:mm:ss'Z'");
+
+    private final AwsCredentialsProvider awsCredentialsProvider;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+
+    /**
+     * @return multipart/form-data로 함께 보내야 하는 필드 (file 필드는 마지막에 추가)
+     */
+    public Map<String, String> sign(
+            String bucket,
+            String key,
+            String contentType,
+            long maxBytes,
+            Duration expiresIn
+    ) throws JsonProcessingException, GeneralSecurityException {
+        AwsCredentials credentials = awsCredentialsProvider.resolveCredentials();
+        String region = S3Config.REGION.id();
+
+        ZonedDateTime now = ZonedDateTime.now(clock.withZone(ZoneOffset.UTC));
+        String date = now.format(DATE);
+        String amzDate = now.format(DATE_TIME);
+        String credential = credentials.accessKeyId()
+                + "/" + date + "/" + region + "/" + SERVICE + "/aws4_request";
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put("key", key);
+        fields.put("Content-Type", contentType);
+        fields.put("x-amz-algorithm", ALGORITHM);
+        fields.put("x-amz-credential", credential);
+        fields.put("x-amz-date", amzDate);
+        if (credentials instanceof AwsSessionCredentials session) {
+            fields.put("x-amz-security-token", session.sessionToken());
+        }
+
+        /* =========================
+           1️⃣ policy 문서
+           ========================= */
+        List<Object> conditions = new ArrayList<>();
+        conditions.add(Map.of("bucket", bucket));
+        fields.forEach((name, value) -> conditions.add(Map.of(name, value)));
+        conditions.add(List.of("content-length-range", 1, maxBytes));
+
+        Map<String, Object> policy = new LinkedHashMap<>();
+        policy.put("expiration", now.plus(expiresIn).format(EXPIRATION));
+        policy.put("conditions", conditions);
+
+        String encodedPolicy = Base64.getEncoder()
+                .encodeToString(objectMapper.writeValueAsBytes(policy));
+
+        /* =========================
+           2️⃣ 서명 키 파생 + 서명
+           ========================= */
+        fields.put("policy", encodedPolicy);
+        fields.put("x-amz-signature", signature(credentials.secretAccessKey(), date, region, encodedPolicy));
+
+        return fields;
+    }
+
+    /**
+     * SigV4 서명 키 파생 후 base64 policy 서명 (hex)
+     */
+    static String signature(
+            String secretAccessKey,
+            String date,
+            String region,
+            String encodedPolicy
+    ) throws GeneralSecurityException {
+        byte[] signingKey = hmac(("AWS4" + secretAccessKey).getBytes(StandardCharsets.UTF_8), date);
+        signingKey = hmac(signingKey, region);
+        signingKey = hmac(signingKey, SERVICE);
+        signingKey = hmac(signingKey, "aws4_request");
+
+        return HexFormat.of().formatHex(hmac(signingKey, encodedPolicy));
+    }
+
+    public String uploadUrl(String bucket) {
+        return "https://" + bucket + ".s3." + S3Config.REGION.id() + ".amazonaws.com/";
+    }
+
+    private static byte[] hmac(byte[] key, String data) throws GeneralSecurityException {
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(key, "HmacSHA256"));
+        return mac.doFinal(data.getBytes(StandardCharsets.UTF_8));
+    }
+}
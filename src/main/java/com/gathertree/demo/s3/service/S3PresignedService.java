@@ -1,17 +1,26 @@
 package com.gathertree.demo.s3.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.gathertree.demo.global.response.exception.GeneralException;
 import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.s3.dto.PresignedPostResponse;
+import com.gathertree.demo.s3.dto.PresignedUrlBatchRequest;
 import com.gathertree.demo.s3.dto.PresignedUrlResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.core.exception.SdkException;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
 
+import java.security.GeneralSecurityException;
 import java.time.Duration;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +28,12 @@ public class S3PresignedService {
 
     private static final Duration EXPIRE_TIME = Duration.ofMinutes(5);
 
-    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final S3PostPolicySigner s3PostPolicySigner;
+
+    // 평가용 합성 이미지 상한 (PNG 160×192 기준)
+    @Value("${gathertree.s3.presigned-post.max-bytes:262144}")
+    private long presignedPostMaxBytes;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -27,14 +41,57 @@ public class S3PresignedService {
     @Value("${cloud.aws.s3.public-url}")
     private String publicUrl;
 
+    private static final String EVAL_TMP_PREFIX = "eval/tmp/";
+
     public PresignedUrlResponse generatePresignedPutUrl(String key) {
+        return generatePresignedPutUrl(key, "image/png", null);
+    }
+
+    /**
+     * Presigned URL 일괄 발급
+     * - 공유 presigner로 병렬 서명 (순수 CPU 연산)
+     * - 응답 순서는 요청 순서와 동일
+     */
+    public List<PresignedUrlResponse> generatePresignedPutUrls(List<PresignedUrlBatchRequest.Item> items) {
+        Set<String> keys = new HashSet<>();
+        for (PresignedUrlBatchRequest.Item item : items) {
+            if (!item.getKey().startsWith(EVAL_TMP_PREFIX) || item.getKey().contains("..")) {
+                throw new GeneralException(
+                        ErrorStatus.BAD_REQUEST,
+                        "업로드 key는 eval/tmp 경로여야 합니다."
+                );
+            }
+            if (!keys.add(item.getKey())) {
+                throw new GeneralException(
+                        ErrorStatus.BAD_REQUEST,
+                        "중복된 key가 있습니다: " + item.getKey()
+                );
+            }
+        }
 
-        try (S3Presigner presigner = S3Presigner.create()) {
+        return items.parallelStream()
+                .map(item -> generatePresignedPutUrl(
+                        item.getKey(),
+                        item.getContentType(),
+                        item.getContentLength()
+                ))
+                .toList();
+    }
 
+    /**
+     * @param contentLength null이면 크기를 서명에 포함하지 않음
+     */
+    private PresignedUrlResponse generatePresignedPutUrl(
+            String key,
+            String contentType,
+            Long contentLength
+    ) {
+        try {
             PutObjectRequest objectRequest = PutObjectRequest.builder()
                     .bucket(bucket)
                     .key(key)
-                    .contentType("image/png")
+                    .contentType(contentType)
+                    .contentLength(contentLength)
                     .build();
 
             PutObjectPresignRequest presignRequest =
@@ -43,7 +100,7 @@ public class S3PresignedService {
                             .putObjectRequest(objectRequest)
                             .build();
 
-            String uploadUrl = presigner
+            String uploadUrl = s3Presigner
                     .presignPutObject(presignRequest)
                     .url()
                     .toString();
@@ -60,4 +117,46 @@ public class S3PresignedService {
             );
         }
     }
+
+    /**
+     * 평가 이미지 업로드용 Presigned POST 발급
+     * - key는 서버가 생성 (eval/tmp/{uuid}.png)
+     * - 크기 / Content-Type 조건을 policy에 포함해 S3가 직접 거절
+     */
+    public PresignedPostResponse generatePresignedPost() {
+        return generatePresignedPost(
+                EVAL_TMP_PREFIX + UUID.randomUUID() + ".png",
+                presignedPostMaxBytes
+        );
+    }
+
+    /**
+     * 지정한 key로 Presigned POST 발급 (트리 / 장식 직접 업로드)
+     */
+    public PresignedPostResponse generatePresignedPost(String key, long maxBytes) {
+        try {
+            Map<String, String> fields = s3PostPolicySigner.sign(
+                    bucket,
+                    key,
+                    "image/png",
+                    maxBytes,
+                    EXPIRE_TIME
+            );
+
+            return new PresignedPostResponse(
+                    s3PostPolicySigner.uploadUrl(bucket),
+                    fields,
+                    key,
+                    publicUrl + "/" + key,
+                    maxBytes
+            );
+
+        } catch (JsonProcessingException | GeneralSecurityException | SdkException e) {
+            throw new GeneralException(
+                    ErrorStatus.IMAGE_UPLOAD_FAIL,
+                    "Presigned POST 발급 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package com.gathertree.demo.tree.controller;
+
+import com.gathertree.demo.global.response.ApiResult;
+import com.gathertree.demo.tree.dto.request.TreeBatchRequest;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
+import com.gathertree.demo.tree.service.ReactiveTreeService;
+import com.gathertree.demo.tree.service.RenderedTree;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+
+/**
+ * 트리 조회 API (reactive 배포)
+ * - 응답 형식 / ETag / Cache-Control은 TreeController와 동일
+ */
+@RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequestMapping("/tree")
+@RequiredArgsConstructor
+public class ReactiveTreeController {
+
+    private final ReactiveTreeService treeService;
+
+    @Value("${gathertree.tree.cache-control.max-age-seconds:0}")
+    private long treeMaxAgeSeconds;
+
+    @GetMapping("/{uuid}")
+    public Mono<ResponseEntity<byte[]>> getTree(
+            @PathVariable String uuid,
+            ServerWebExchange exchange
+    ) {
+        CacheControl cacheControl = treeCacheControl();
+
+        // revision만 비교 → 일치하면 트리를 읽지 않고 304
+        if (exchange.getRequest().getHeaders().getFirst(HttpHeaders.IF_NONE_MATCH) != null) {
+            return treeService.getTreeEtag(uuid)
+                    .flatMap(etag -> exchange.checkNotModified(etag)
+                            ? Mono.just(ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                    .eTag(etag)
+                                    .cacheControl(cacheControl)
+                                    .<byte[]>build())
+                            : render(uuid, cacheControl));
+        }
+
+        return render(uuid, cacheControl);
+    }
+
+    @PostMapping("/batch")
+    public Mono<ApiResult<TreeBatchResponse>> getTrees(
+            @Valid @RequestBody TreeBatchRequest request
+    ) {
+        return treeService.getTrees(request).map(ApiResult::onSuccess);
+    }
+
+    private Mono<ResponseEntity<byte[]>> render(String uuid, CacheControl cacheControl) {
+        return treeService.getRenderedTree(uuid)
+                .map((RenderedTree rendered) -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .eTag(rendered.etag())
+                        .cacheControl(cacheControl)
+                        .body(rendered.body()));
+    }
+
+    /**
+     * 트리 조회 Cache-Control (TreeController와 동일)
+     */
+    private CacheControl treeCacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(treeMaxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate();
+    }
+}
@@ -1,13 +1,24 @@
 package com.gathertree.demo.tree.controller;
 
 import com.gathertree.demo.global.response.ApiResult;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.global.util.MultipartImageUtil;
+import com.gathertree.demo.global.util.PngImageSpec;
+import com.gathertree.demo.tree.dto.request.BaseImageCommitRequest;
+import com.gathertree.demo.tree.dto.request.DecorationCommitRequest;
 import com.gathertree.demo.tree.dto.request.DecorationCreateRequest;
 import com.gathertree.demo.tree.dto.request.DecorationReorderRequest;
+import com.gathertree.demo.tree.dto.request.TreeBatchRequest;
 import com.gathertree.demo.tree.dto.request.TreeCreateRequest;
 import com.gathertree.demo.tree.dto.response.DecorationCreateResponse;
+import com.gathertree.demo.tree.dto.response.DirectUploadResponse;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
 import com.gathertree.demo.tree.dto.response.TreeCreateResponse;
 import com.gathertree.demo.tree.dto.response.TreeResponse;
+import com.gathertree.demo.tree.service.RenderedTree;
 import com.gathertree.demo.tree.service.TreeService;
+import com.gathertree.demo.tree.service.TreeUploadService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -16,18 +27,36 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
 
 @Tag(
         name = "Tree",
         description = "트리 생성, 조회 및 장식 관리 API"
 )
 @RestController
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RequestMapping("/tree")
 @RequiredArgsConstructor
 public class TreeController {
 
     private final TreeService treeService;
+    private final TreeUploadService treeUploadService;
+
+    @Value("${gathertree.tree.cache-control.max-age-seconds:0}")
+    private long treeMaxAgeSeconds;
 
     @Operation(
             summary = "트리 생성",
@@ -53,11 +82,28 @@ public class TreeController {
                     description = "잘못된 요청"
             )
     })
-    @PostMapping
-    public ApiResult<TreeCreateResponse> createTree(
+    @PostMapping(consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ApiResult<TreeCreateResponse>> createTree(
             @Valid @RequestBody TreeCreateRequest request
     ) {
-        return ApiResult.onSuccess(treeService.createTree(request));
+        return treeService.createTree(request).thenApply(ApiResult::onSuccess);
+    }
+
+    @Operation(
+            summary = "트리 생성 (multipart)",
+            description = """
+        JSON(base64) 대신 PNG 바이너리를 그대로 업로드합니다. (권장)
+        
+        - multipart/form-data, image part: 160×192 PNG (최대 256KB)
+        - 응답은 JSON 트리 생성과 동일합니다.
+        """
+    )
+    @PostMapping(consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ApiResult<TreeCreateResponse>> createTreeMultipart(
+            @RequestPart("image") MultipartFile image
+    ) {
+        return treeService.createTree(MultipartImageUtil.read(image, PngImageSpec.TREE))
+                .thenApply(ApiResult::onSuccess);
     }
 
     @Operation(
@@ -68,12 +114,23 @@ public class TreeController {
         - 트리 베이스 이미지 URL
         - 장식 목록 (orderIndex 기준 정렬)
         - 장식 개수 포함
+        
+        ▶ 조건부 요청
+        - 응답의 ETag를 If-None-Match로 보내면, 변경이 없을 때 304(본문 없음)를 반환합니다.
         """
     )
     @ApiResponses({
             @ApiResponse(
                     responseCode = "200",
-                    description = "트리 조회 성공"
+                    description = "트리 조회 성공 (ApiResult로 감싼 TreeResponse, ETag 포함)",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TreeResponse.class)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "변경 없음 (If-None-Match 일치)"
             ),
             @ApiResponse(
                     responseCode = "404",
@@ -81,8 +138,73 @@ public class TreeController {
             )
     })
     @GetMapping("/{uuid}")
-    public ApiResult<TreeResponse> getTree(@PathVariable String uuid) {
-        return ApiResult.onSuccess(treeService.getTree(uuid));
+    public ResponseEntity<byte[]> getTree(
+            @PathVariable String uuid,
+            WebRequest webRequest
+    ) {
+        CacheControl cacheControl = treeCacheControl();
+
+        // revision만 비교 → 일치하면 트리를 읽지 않고 304
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null) {
+            String etag = treeService.getTreeEtag(uuid);
+
+            if (webRequest.checkNotModified(etag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(etag)
+                        .cacheControl(cacheControl)
+                        .build();
+            }
+        }
+
+        RenderedTree rendered = treeService.getRenderedTree(uuid);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(rendered.etag())
+                .cacheControl(cacheControl)
+                .body(rendered.body());
+    }
+
+    @Operation(
+            summary = "트리 일괄 조회",
+            description = """
+        여러 트리를 한 번에 조회합니다. (관리 / 모더레이션 도구용)
+        
+        - 최대 100개, 중복 UUID는 한 번만 조회합니다.
+        - found : 조회된 트리 (UUID → 트리)
+        - missing : 존재하지 않거나 만료된 UUID
+        """
+    )
+    @PostMapping("/batch")
+    public ApiResult<TreeBatchResponse> getTrees(
+            @Valid @RequestBody TreeBatchRequest request
+    ) {
+        return ApiResult.onSuccess(treeService.getTrees(request));
+    }
+
+    @Operation(
+            summary = "트리 변경 이벤트 구독 (SSE)",
+            description = """
+        트리 변경 사항을 Server-Sent Events로 실시간 전달합니다.
+        
+        - connected : 구독 직후 1회 (data = 현재 ETag)
+        - decoration-added / decorations-reordered / decoration-deleted / base-updated
+        - 이벤트 수신 후 ETag로 트리를 다시 조회하면 됩니다. (폴링 불필요)
+        """
+    )
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "구독 성공 (text/event-stream)"
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "트리를 찾을 수 없음"
+            )
+    })
+    @GetMapping(value = "/{uuid}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter subscribeEvents(@PathVariable String uuid) {
+        return treeService.subscribeEvents(uuid);
     }
 
     @Operation(
@@ -94,12 +216,60 @@ public class TreeController {
         - base.png 파일만 덮어씁니다.
         """
     )
-    @PutMapping("/{uuid}")
-    public ApiResult<Void> updateTree(
+    @PutMapping(value = "/{uuid}", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ApiResult<Void>> updateTree(
             @PathVariable String uuid,
             @Valid @RequestBody TreeCreateRequest request
     ) {
-        treeService.updateTree(uuid, request);
+        return treeService.updateTree(uuid, request).thenApply(ApiResult::onSuccess);
+    }
+
+    @Operation(
+            summary = "트리 수정 (multipart)",
+            description = """
+        트리 베이스 이미지를 PNG 바이너리로 수정합니다.
+        
+        - multipart/form-data, image part: 160×192 PNG (최대 256KB)
+        """
+    )
+    @PutMapping(value = "/{uuid}", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ApiResult<Void>> updateTreeMultipart(
+            @PathVariable String uuid,
+            @RequestPart("image") MultipartFile image
+    ) {
+        return treeService.updateTree(uuid, MultipartImageUtil.read(image, PngImageSpec.TREE))
+                .thenApply(ApiResult::onSuccess);
+    }
+
+    @Operation(
+            summary = "트리 이미지 직접 업로드 발급",
+            description = """
+        트리 이미지를 S3에 직접 업로드하기 위한 Presigned POST를 발급합니다.
+        
+        - upload.uploadUrl로 upload.fields + file을 multipart POST 합니다.
+        - 업로드 후 uploadId로 /tree/{uuid}/base/commit 을 호출해야 반영됩니다.
+        """
+    )
+    @PostMapping("/{uuid}/base/upload-url")
+    public ApiResult<DirectUploadResponse> issueBaseUpload(@PathVariable String uuid) {
+        return ApiResult.onSuccess(treeUploadService.issueBaseUpload(uuid));
+    }
+
+    @Operation(
+            summary = "트리 이미지 직접 업로드 확정",
+            description = """
+        S3에 업로드된 트리 이미지를 검증한 뒤 트리에 반영합니다.
+        
+        - 160×192 PNG (최대 256KB)가 아니면 업로드된 파일은 삭제되고 400을 반환합니다.
+        - 같은 uploadId로 다시 호출해도 한 번만 반영됩니다.
+        """
+    )
+    @PostMapping("/{uuid}/base/commit")
+    public ApiResult<Void> commitBase(
+            @PathVariable String uuid,
+            @Valid @RequestBody BaseImageCommitRequest request
+    ) {
+        treeUploadService.commitBase(uuid, request);
         return ApiResult.onSuccess(null);
     }
 
@@ -127,12 +297,76 @@ public class TreeController {
                     description = "트리를 찾을 수 없음"
             )
     })
-    @PostMapping("/{uuid}/decorations")
-    public ApiResult<DecorationCreateResponse> addDecoration(
+    @PostMapping(value = "/{uuid}/decorations", consumes = MediaType.APPLICATION_JSON_VALUE)
+    public CompletableFuture<ApiResult<DecorationCreateResponse>> addDecoration(
             @PathVariable String uuid,
             @Valid @RequestBody DecorationCreateRequest request
     ) {
-        return ApiResult.onSuccess(treeService.addDecoration(uuid, request));
+        return treeService.addDecoration(uuid, request).thenApply(ApiResult::onSuccess);
+    }
+
+    @Operation(
+            summary = "장식 추가 (multipart)",
+            description = """
+        장식 이미지를 PNG 바이너리로 업로드합니다. (권장)
+        
+        - multipart/form-data
+        - image part: 32×32 PNG (최대 32KB)
+        - authorName 필드: 닉네임
+        """
+    )
+    @PostMapping(value = "/{uuid}/decorations", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public CompletableFuture<ApiResult<DecorationCreateResponse>> addDecorationMultipart(
+            @PathVariable String uuid,
+            @RequestPart("image") MultipartFile image,
+            @RequestParam String authorName
+    ) {
+        if (authorName.isBlank()) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST, "닉네임은 필수입니다.");
+        }
+
+        return treeService.addDecoration(
+                        uuid,
+                        MultipartImageUtil.read(image, PngImageSpec.DECORATION),
+                        authorName
+                )
+                .thenApply(ApiResult::onSuccess);
+    }
+
+    @Operation(
+            summary = "장식 직접 업로드 발급",
+            description = """
+        장식 이미지를 S3에 직접 업로드하기 위한 Presigned POST를 발급합니다. (권장)
+        
+        - upload.uploadUrl로 upload.fields + file을 multipart POST 합니다.
+        - 업로드 후 uploadId와 닉네임으로 /tree/{uuid}/decorations/commit 을 호출해야 추가됩니다.
+        """
+    )
+    @PostMapping("/{uuid}/decorations/upload-url")
+    public ApiResult<DirectUploadResponse> issueDecorationUpload(@PathVariable String uuid) {
+        return ApiResult.onSuccess(treeUploadService.issueDecorationUpload(uuid));
+    }
+
+    @Operation(
+            summary = "장식 직접 업로드 확정",
+            description = """
+        S3에 업로드된 장식 이미지를 검증한 뒤 트리에 추가합니다.
+        
+        - 32×32 PNG (최대 32KB)가 아니면 업로드된 파일은 삭제되고 400을 반환합니다.
+        - 장식 ID는 uploadId와 같습니다. 같은 uploadId로 다시 호출하면 기존 결과를 반환합니다.
+        """
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "장식 추가 성공"),
+            @ApiResponse(responseCode = "400", description = "이미지 규격 위반 / 장식 개수 초과"),
+            @ApiResponse(responseCode = "404", description = "트리를 찾을 수 없음")
+    })
+    @PostMapping("/{uuid}/decorations/commit")
+    public ApiResult<DecorationCreateResponse> commitDecoration(
+            @PathVariable String uuid,
+            @Valid @RequestBody DecorationCommitRequest request
+    ) {
+        return ApiResult.onSuccess(treeUploadService.commitDecoration(uuid, request));
     }
 
     @Operation(
@@ -185,5 +419,14 @@ public class TreeController {
         return ApiResult.onSuccess(null);
     }
 
-
+    /**
+     * 트리 조회 Cache-Control
+     * - public: CDN 캐시 허용 (UUID 링크 자체가 공개 범위)
+     * - must-revalidate: max-age 경과 후 반드시 ETag로 재검증
+     */
+    private CacheControl treeCacheControl() {
+        return CacheControl.maxAge(Duration.ofSeconds(treeMaxAgeSeconds))
+                .cachePublic()
+                .mustRevalidate();
+    }
 }
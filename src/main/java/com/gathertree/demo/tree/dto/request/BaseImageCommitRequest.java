@@ -0,0 +1,14 @@
+package com.gathertree.demo.tree.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "직접 업로드한 트리 이미지 확정 요청")
+public class BaseImageCommitRequest {
+
+    @Schema(description = "업로드 URL 발급 시 받은 uploadId", example = "3f1c2b7e-8d4a-4c61-9a57-0b2f6e1d9c33")
+    @NotBlank(message = "uploadId는 필수입니다.")
+    private String uploadId;
+}
@@ -1,13 +1,18 @@
 package com.gathertree.demo.tree.dto.request;
 
+import com.gathertree.demo.global.util.Base64Image;
+import com.gathertree.demo.global.util.PngImage;
+import com.gathertree.demo.global.util.PngImageSpec;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 
 @Getter
 public class DecorationCreateRequest {
 
-    @NotBlank(message = "장식 이미지는 필수입니다.")
-    private String imageBase64;
+    @NotNull(message = "장식 이미지는 필수입니다.")
+    @PngImage(PngImageSpec.DECORATION)
+    private Base64Image imageBase64;
 
     @NotBlank(message = "닉네임은 필수입니다.")
     private String authorName;
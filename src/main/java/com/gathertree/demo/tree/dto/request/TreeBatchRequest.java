@@ -0,0 +1,19 @@
+package com.gathertree.demo.tree.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "트리 일괄 조회 요청")
+public class TreeBatchRequest {
+
+    @Schema(description = "조회할 트리 UUID 목록 (최대 100개, 중복은 한 번만 조회)")
+    @NotEmpty(message = "조회할 트리 목록은 비어 있을 수 없습니다.")
+    @Size(max = 100, message = "한 번에 최대 100개까지 조회할 수 있습니다.")
+    private List<@NotBlank String> uuids;
+}
@@ -1,7 +1,10 @@
 package com.gathertree.demo.tree.dto.request;
 
+import com.gathertree.demo.global.util.Base64Image;
+import com.gathertree.demo.global.util.PngImage;
+import com.gathertree.demo.global.util.PngImageSpec;
 import io.swagger.v3.oas.annotations.media.Schema;
-import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 
 @Getter
@@ -9,9 +12,11 @@ import lombok.Getter;
 public class TreeCreateRequest {
 
     @Schema(
+            type = "string",
             description = "트리 이미지 (PNG base64)",
             example = "data:image/png;base64,iVBORw0KGgoAAAANSUhEUgAAAKAAAADACAYAAACDO2h3AAAPqElEQVR4AeyczXEcyRWEh2uAToo1grGiETKCogO6SRboLAukmxygaISMoDZoxIZOMkCr+QAk+KZQ1T8zXdVV3bmB5Pupv9f5crpnACx+uPg/M7AjAxbgjuT76MvFArQKdmXAAtyVfh9uAVoDuzJgAe5Kvw8/rwDd+y4YsAC7aMN5i7AAz9v7Lq7cAuyiDectwgI8b++7uHILsIs2nLcIC/B8ve/qii3ArtpxvmIswPP1vKsrtgC7asf5irEAz9fzrq7YAuyqHecrxgI8X8+7uuKmAuzqyl1MFwxYgF204bxFWIDn7X0XV24BdtGG8xZhAZ63911cuQX4QBs+/P7br1oefeVs5xmwAOc5ys5AcF//9f6dBvHJKb61jkoMWIAlZu7II8I7lp16iQW4ov3c4QTEJp8t8LEg+sRGmQELsMzN6wiCAq+JqxNj+VhwHfbXQgYswIVErZmmu+OaNWedawEWOs+dDBSGJ9P3rpvc9KCDFmCmsQiIuxhD+NgIjcVc6jMntzadd/R47voswAxDiEfpz798lPtqlwhLc2RfF9u5YcACvKHjOUA0gOjTj18wRiUGLMCEWITHHRAkQw4rMGABJqQiPEQIkqG7Q/YCd29w4IUWYNLcLYWCmLV99JWzvfhP9OZEMCeWuXHtiZiZC/CVt/3OwHHvgN+vcbU3J5a58Xig5iLCmLf/zIAF+MxDtX8lPAmx2kGDbmwBXhv37aefXn+vT4KRvQ7f/bXFHncfPshCC/DaqPc///zuap6+uFMhHOxT4uUfci/uYhP3uGf94oMGnmgBJs0rCSWKKVlSDONe96wvbnygAQtwopkICExMmRxCdMIj+0weMvigBVhooASDgOQXpmbTrInITqqTHGpXC3BBuxBhnCZhxVz0GVecrlXe9pkBC/CZh+K/iAkwAQvwJSzFsowBxgF5LDnjLQMW4FtOshmExABiAorJAeWUxwLGZPGNWwYswFs+ZiPEBOJEYhBz+Igyfo+RnHHLwGkEWEMIUXSIDWpl8RmP32MkZ9wycBoB1hYCYoNaWXxjnoFNBTh/nGeYgVsGLMBbPhw1ZsACbEy4j7tlwAK85aNJVOMDUZPCKxxiAVYgdW7L2h+I5s7vadwC7KkbJ6zFAtyk6d7kXgYswHuZa7Dunx++/wXWBsftcoQFuAPtCCsFZSgnH3t0HEKASz5Vxh+RRX+PBv/h6/t3gs5HfOSI8bEg+sRHwyEEOPWp8h/fPvwK/vz3TxcsDeTHZXuLkDokrpzwGD8DDiHAUqMkuDiuHCKM+ZY+wgNReP/9/KlYAnOLg4MPHFaAEtrf/vT5qUVYQKAx/NZ3wigmfIQHqA37199S1Vu0rvNtBfnMo9nDCZBGITAaCiBIFh8QM4e5xDkseV+ZW7cmh+CoBbBOFv8sGFKAS8TBe75cE2lyHONRnBPi1PvK3L5Lczx2ge50sZbSHswt1VlaM0p+SAGm4kBAANLVUIRGPAeti/OWCDzOX+pzFmB+qc6//IfRt9C6tyNjZ4YUYKScxnB3IMdjFRvFpzHyQhwnxxz2wQepwMk9CvbnHPZZUid3PeYCiZL17EPuKBhegDRFzfjj+6/vUnHlGqa7j9ZpjqzyW9oldUponBt9xXxowa9ZJ/u3xBACnHok0gwAabL4JSA+RApKc2rkqQ2wtyw+QGwAfw7MA3PzRhnvXoCIL/tIvDJMI7mzgGs4+yXxMREf2wJTdc6JiU/KuRp1N8yNjZTrXoAl8UEywqO5gLiEVGzEpTsge4HSXvfkp+qM7/W0N6Ijj6VOfI1FewQRditA7nyR7Jw/JxSEFtfRTGJZfAGR5PwldWidbLpmrk6twyI21SdLHjCGPRK6FSB3vtjI6McGROHEvMTHeNpIjcX5iIS5AF9j1CF/qc2tYd/c+vgITgWWqzO3x8i5bgUIqbGR0WdMiGKhYQKiA4wrJ6u1qWUuuZJYGLsX2pv1qgOL6ATiCOaCKFLiiNEfw10LMBI95atpcY5yWISYIs6VL+FFsWhsC0stIO5FLKQ1EjMXgWIlRH6SQqw8/qgYWoASTEo+jYugwZojX1b50l4af8SW9o414sea8BEcSM6+cNeTCGXTOaPEQwuQO1XaXDWSBtIEWXzAuCxjgn46wVi6J7lHsKZOCU51cpejRj4RxxoQoebG/Gj+0AKUUGiWQAPk07joEwvMKwHBlMbuyc/ViZBUJ0KjRnL4nPebT58vAD8CccZ4RH9oAUbCaTKIOZqqGD+CfIzxER5I92HuVmBvEPeLQkJo1EIOixDjXPmMp/tobCR7CAGqEfeKh/URtRrIGTw6qTMVVi5WDrGBWBd7xXhU/xACjOTT3BjTKBBz0Y9j6do4r4aPwAT2x0doWGJ8QAz4wAHIMX4EHEqAiAnQGCzAl7AUyzIGGAfkseRqAQFxDjaeoVhCYwwfIDjGdfdkfe06Ob8FVgmwRUFbnEGD2IcmAcXkgHLKYwFjsvi1gagA5yAuLIg+49RETj5zyGFHxyEFqKbQJKAYSwzwIxBljFv6CCueRywoT4y/Z52cvzUOLcBIVhSdmijLvDhO3BoITNDZ1MedD6vc3nWqjq3saQQYCVMTZeNYTz7v/xBl73U+wtkpBfgIYS3XIr6W5+1xlgW4B+s+85UBC/CViimn/Vjp9x/bV1L3RAuwLr937176/ce7N+x0oQXYaWPOUtYhBHiWx9URRXkIAY7+uOIFBI4osLlrOoQA5y6y93FeQKD3OmvU170A+UlAjQvfes8t6mxxF1xb59Y8pfvtJkCISEFxysnH7gnVEy31KJaPfRSP3AVVT7TUo1g+tifsJkC+yy+IEMgiR4yPBdEnbnGn4BxAPQIxoB5y8rGAPLYG5q6ZegSdTz3kiPGxIPrEe2I3AeqiRUaOKM1J7SN3inSvpbHq/N3/Pj4tUfwUbPhPSWhLr1l1reFzw/JXb7WbACEKRKL0P+HkroK5uXztHOcC1fnvH75cata5VGjpdVMjUJ34NetMz7833kWAkKOC8SEK8D/hYPkNYI1HG38tKeZr+dSmvfGpDbhOsfK43UWAsWw1lKaSl8XvCb3UWXpEi6te6lQ9c3YXAfKYALrT8f/Bvik0STCX34treRekRsDZlNNDnblHNDWCnuqEryVoLkAEBChODU3vevwiJuMptC7N14g5C7C364SFOmgqQBrKXYxL0Z/CiOLTGONAr2h8iZI57EOuFtifc9jfdcJCPTQVoJrK5ZT+oLiExpzoK+bDAD4iwdZAj3XG937ye6xzbT+aChDRAIqUxQeIDeDPgXlgbt6acTWVNdQG5GMFzgWKpyzzQNx7av7UvPjeTz41AvaUxQecC/DnwDwwN6/GeDMBQhCvWJBeyNzF88kuXUOsuyH+o4hN/fzLx8uWdfK9wyX1qQbNjYKMPuO980mNS9BMgDQU0kBaWHyvpzFERx7L+0R8jUW7pQjZlzo//fjlsmOdlPGEKMjoI0bqpEbwNDn8k+MKHsljW/IZysq6zQSYIypb0TUJUZB0dS+y+IAxbC2MUCdiHKHOJT1qJkCK4VWLTREfwanA9C2QdE3N2HXWZPd276YCjK9ahCUgOkE5WZUbRaqc7NrHMI8wrc3ZXurM1RZzo9QZa079pgLk8FRYMccYj9wUzEGgWAmR7/wTK4+/FDzC5uZSC4jziIW0RmLmqp4t6mS/OaieOE85LHWlYG7rOjkzh2YCLD3WUnIgTYXi00ignCx3PYlQVmOPWNd5uWzJ51wvmgmQx0XaXMSHyACFykpwjJPn1coYn+CIBUSouco9al3nowyuW38jwHVL182W+BCVwA7yEZJ8hIbgyOEzj7+dDPAjEGeMH/Vd56MMrlvfTICxLJoMYi4KCaEhRnJYhBjnymc83UdjW1j2BnEvzlTsOsXE/ba5AGkoj04edamwcrFyNB7ES2WvGKf+3KfddH6M2btVnfHctf4odZauq7kA00IQmMAYPkLDEuMDYsAbZECO8Sks+bQ7tT6OcbZAHp8asMT4gBhQIyDHeCtwtsCZ+NSAJcYHxIAaATnGW2MXAXLBvHKx8YIVixjG8AEEMa67Euu5izKnFjiPc7DxDMXUFX1i1xmZmvd3EWAsiwYCcogLC6LPOEIgJ5855LARjzx24z6pz7mAPHVgQfQZpyZy8plDDivUqpH9ORfgUwcWRJ9xaiInnznksC2xuwB1sRAhH0ssEANi7NSd777HLrsug2rQbGIh5vCn6mS8Jqgp7k8sKE+Mv2ed3QgQIiBEIAaQwysVSwz2eKVyrqAascpR39I6a79IVBP1CcqtqVNratquBJi7UN5XQeKU6Go+0nI15XJL6syta53rrc7uBYj45prU6o4yVceSOqfWtxrrrc7uBTjVmB7ufFP1lcZa1d3qnNJ1LskPLcAe7nxLSE7ntKq71Tnp9a2JhxTgCK/sNU3Yc+7eZw8pwL1J8/nbMTCsAHN3wVyuRFWtuaXzYn7N2XHdEf0hBch7G5A2JJdL5yiuNVf7R5sKbs3ZcZ8j+kMKcLRG9CK49IXQA48W4IoutGpgrXN6eSFEyi3AyMaM36qBa89JBZvGM5e16/B+Atz1so91eCrYNJYgU9sDCxZgD12oXIMEKVv5uFXbW4AL6NKdY8HURVO23m/RoWFST0K0AENjSu7WDdt6v1LdI+QtwBG6dOAaLcADN3eES7MA23fJJwYGLMBAht32DFiA7Tn3iYEBCzCQYbc9AxZge859YmDAAgxk2G3PgAXYnvPznpi5cgswQ4pT7RiwANtx7ZMyDFiAGVKcaseABdiOa5+UYcACzJDiVDsGLMAM13v/vl6mpMOmTiLAdf2r+ft6FvdtLyzAWz6qRzXFXb34CgdYgBVI9ZbLGbAAl3PlmRUYsAArkOotlzNgAS7nyjMrMGABViC1py17r8UC7L1DB6/PAkwa7O/TJYRUDi3AhGB/ny4hpHJoAVYm2NtPM2ABTvPj0coMWICVCdb2fm8pJm5tPQHennP6yO8t8xKwAPO8ONuIAQuwEdE+Js+ABfjCi9+jvRDR2FiAL4T7PdoLEY2NBdiYcB93y4AFeMvHFpH3WMGABXgly+//riTs9GUBXon3+78rCTt9WYA7Ee9jnxmwAK88+BF8JWGnLwtwJ+J97DMDFuCVB70HjHfCkn+dvvor7rV68UgL7qjVAgykSYikSj5jawUV92K98Z0BC/A7F4u9VFASpCwb4QvERp4BCzDPy6qsBCnLYnyB2MgzYAHmeXG2EQMWYCOifUyeAQswz4uzjRg4iAAbseVjNmfAAtycUm+4hgELcA1bnrs5Axbg5pR6wzUMWIBr2PLczRmwADen1BuuYcACXMNWh3NHL+n/AAAA///sdRplAAAABklEQVQDAFaMxQgIfXLNAAAAAElFTkSuQmCC"
     )
-    @NotBlank(message = "트리 이미지는 필수입니다.")
-    private String imageBase64;
+    @NotNull(message = "트리 이미지는 필수입니다.")
+    @PngImage(PngImageSpec.TREE)
+    private Base64Image imageBase64;
 }
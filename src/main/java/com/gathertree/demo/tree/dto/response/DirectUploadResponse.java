@@ -0,0 +1,18 @@
+package com.gathertree.demo.tree.dto.response;
+
+import com.gathertree.demo.s3.dto.PresignedPostResponse;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "S3 직접 업로드 발급 응답")
+public class DirectUploadResponse {
+
+    @Schema(description = "확정(commit) 요청에 그대로 전달할 업로드 ID")
+    private String uploadId;
+
+    @Schema(description = "S3 Presigned POST (uploadUrl + fields)")
+    private PresignedPostResponse upload;
+}
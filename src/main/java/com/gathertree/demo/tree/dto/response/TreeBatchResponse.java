@@ -0,0 +1,20 @@
+package com.gathertree.demo.tree.dto.response;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+@Schema(description = "트리 일괄 조회 응답")
+public class TreeBatchResponse {
+
+    @Schema(description = "조회된 트리 (UUID → 트리, 요청 순서)")
+    private Map<String, TreeResponse> found;
+
+    @Schema(description = "존재하지 않거나 만료된 트리 UUID")
+    private List<String> missing;
+}
@@ -0,0 +1,32 @@
+package com.gathertree.demo.tree.event;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+/**
+ * 트리 변경 이벤트
+ * - Redis pub/sub(tree:events)으로 모든 인스턴스에 전파
+ * - SSE data로 그대로 전달
+ *
+ * @param decorationId 장식 관련 이벤트일 때만 존재
+ * @param jobId        AI 평가 작업 이벤트일 때만 존재
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record TreeEvent(
+        String uuid,
+        TreeEventType type,
+        String decorationId,
+        String jobId
+) {
+
+    public static TreeEvent of(String uuid, TreeEventType type) {
+        return new TreeEvent(uuid, type, null, null);
+    }
+
+    public static TreeEvent of(String uuid, TreeEventType type, String decorationId) {
+        return new TreeEvent(uuid, type, decorationId, null);
+    }
+
+    public static TreeEvent ofJob(String uuid, TreeEventType type, String jobId) {
+        return new TreeEvent(uuid, type, null, jobId);
+    }
+}
@@ -0,0 +1,122 @@
+package com.gathertree.demo.tree.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 트리 SSE 구독 관리
+ * - 이 인스턴스에 연결된 SseEmitter를 트리 UUID별로 보관
+ * - Redis pub/sub으로 받은 이벤트를 해당 트리 구독자에게 전달
+ *
+ * SseEmitter는 비동기 요청이라 대기 중인 연결이 요청 스레드를 점유하지 않음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TreeEventHub implements MessageListener {
+
+    public static final String CHANNEL = "tree:events";
+
+    private final ObjectMapper objectMapper;
+    private final RedisMessageListenerContainer listenerContainer;
+
+    private final Map<String, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+
+    @Value("${gathertree.tree.events.timeout-seconds:1800}")
+    private long timeoutSeconds;
+
+    @PostConstruct
+    void subscribeChannel() {
+        listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    /**
+     * @param etag 구독 시점의 트리 ETag (connected 이벤트로 전달)
+     */
+    public SseEmitter subscribe(String uuid, String etag) {
+        SseEmitter emitter = new SseEmitter(Duration.ofSeconds(timeoutSeconds).toMillis());
+
+        emitters.computeIfAbsent(uuid, key -> ConcurrentHashMap.newKeySet()).add(emitter);
+
+        emitter.onCompletion(() -> remove(uuid, emitter));
+        emitter.onTimeout(() -> remove(uuid, emitter));
+        emitter.onError(e -> remove(uuid, emitter));
+
+        send(uuid, emitter, SseEmitter.event().name("connected").data(etag));
+
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String payload = new String(message.getBody(), StandardCharsets.UTF_8);
+
+        TreeEvent event;
+        try {
+            event = objectMapper.readValue(payload, TreeEvent.class);
+        } catch (Exception e) {
+            log.warn("트리 이벤트 파싱 실패 payload={}", payload, e);
+            return;
+        }
+
+        Set<SseEmitter> targets = emitters.get(event.uuid());
+        if (targets == null) {
+            return;
+        }
+
+        for (SseEmitter emitter : targets) {
+            send(
+                    event.uuid(),
+                    emitter,
+                    SseEmitter.event()
+                            .name(event.type().getEventName())
+                            .data(payload)
+            );
+        }
+    }
+
+    /**
+     * 프록시 / 로드밸런서 idle timeout 방지 + 끊어진 연결 정리
+     * - servlet 배포에서만 실행 (SchedulingConfig)
+     */
+    @Scheduled(fixedDelayString = "${gathertree.tree.events.heartbeat-interval:PT25S}")
+    public void heartbeat() {
+        emitters.forEach((uuid, targets) ->
+                targets.forEach(emitter ->
+                        send(uuid, emitter, SseEmitter.event().comment("ping"))
+                )
+        );
+    }
+
+    private void send(String uuid, SseEmitter emitter, SseEmitter.SseEventBuilder event) {
+        try {
+            emitter.send(event);
+        } catch (Exception e) {
+            remove(uuid, emitter);
+            emitter.completeWithError(e);
+        }
+    }
+
+    private void remove(String uuid, SseEmitter emitter) {
+        emitters.computeIfPresent(uuid, (key, targets) -> {
+            targets.remove(emitter);
+            return targets.isEmpty() ? null : targets;
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package com.gathertree.demo.tree.event;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TreeEventPublisher {
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 이벤트 발행 실패는 요청 실패로 보지 않음
+     * - 구독자는 재연결 / ETag 재조회로 복구 가능
+     */
+    public void publish(TreeEvent event) {
+        try {
+            redisTemplate.convertAndSend(
+                    TreeEventHub.CHANNEL,
+                    objectMapper.writeValueAsString(event)
+            );
+        } catch (Exception e) {
+            log.warn("트리 이벤트 발행 실패 uuid={}, type={}", event.uuid(), event.type(), e);
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.gathertree.demo.tree.event;
+
+import com.fasterxml.jackson.annotation.JsonValue;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum TreeEventType {
+
+    DECORATION_ADDED("decoration-added"),
+    DECORATIONS_REORDERED("decorations-reordered"),
+    DECORATION_DELETED("decoration-deleted"),
+    BASE_UPDATED("base-updated"),
+    EVALUATION_COMPLETED("evaluation-completed"),
+    EVALUATION_FAILED("evaluation-failed");
+
+    // SSE event 이름 / JSON 값
+    @JsonValue
+    private final String eventName;
+}
@@ -6,7 +6,7 @@ import lombok.Getter;
 import java.time.LocalDateTime;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 public class Decoration {
 
     private String id;
@@ -14,4 +14,10 @@ public class Decoration {
     private String imageUrl;
     private int orderIndex;
     private LocalDateTime createdAt;
+
+    public Decoration withOrderIndex(int orderIndex) {
+        return toBuilder()
+                .orderIndex(orderIndex)
+                .build();
+    }
 }
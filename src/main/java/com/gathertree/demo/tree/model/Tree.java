@@ -1,11 +1,17 @@
 package com.gathertree.demo.tree.model;
 
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
 import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Getter
 @Builder
@@ -17,11 +23,93 @@ public class Tree {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 변경될 때마다 1씩 증가 (ETag / 응답 캐시 버전)
+    private long revision;
+
     public void touch() {
         this.updatedAt = LocalDateTime.now();
+        this.revision++;
     }
 
     public void changeBaseImageUrl(String baseImageUrl) {
         this.baseImageUrl = baseImageUrl;
     }
+
+    /**
+     * 장식 추가 (orderIndex는 현재 장식 개수)
+     * - 같은 ID의 장식이 이미 있으면 추가하지 않음 (commit 재시도)
+     *
+     * @return 부여된 orderIndex (이미 있으면 기존 orderIndex)
+     */
+    public int addDecoration(Decoration decoration, int maxDecorations) {
+        for (Decoration existing : decorations) {
+            if (existing.getId().equals(decoration.getId())) {
+                return existing.getOrderIndex();
+            }
+        }
+
+        if (decorations.size() >= maxDecorations) {
+            throw new GeneralException(ErrorStatus.DECORATION_LIMIT_EXCEEDED);
+        }
+
+        int orderIndex = decorations.size();
+
+        List<Decoration> appended = new ArrayList<>(decorations);
+        appended.add(decoration.withOrderIndex(orderIndex));
+        this.decorations = appended;
+
+        return orderIndex;
+    }
+
+    /**
+     * 장식 ID 순서대로 재배치 (orderIndex 0부터 재부여)
+     */
+    public void reorderDecorations(List<String> order) {
+        if (decorations.size() != order.size() || new HashSet<>(order).size() != order.size()) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST, "장식 개수가 일치하지 않습니다.");
+        }
+
+        // id → Decoration 매핑
+        Map<String, Decoration> map = decorations.stream()
+                .collect(Collectors.toMap(Decoration::getId, Function.identity()));
+
+        List<Decoration> reordered = new ArrayList<>();
+
+        for (String id : order) {
+            Decoration decoration = map.get(id);
+
+            if (decoration == null) {
+                throw new GeneralException(ErrorStatus.DECORATION_NOT_FOUND);
+            }
+
+            reordered.add(decoration);
+        }
+
+        replaceDecorations(reordered);
+    }
+
+    /**
+     * 장식 제거 (남은 장식 orderIndex 재정렬)
+     */
+    public void removeDecoration(String decorationId) {
+        Decoration target = decorations.stream()
+                .filter(d -> d.getId().equals(decorationId))
+                .findFirst()
+                .orElseThrow(() -> new GeneralException(ErrorStatus.DECORATION_NOT_FOUND));
+
+        List<Decoration> remaining = new ArrayList<>(decorations);
+        remaining.remove(target);
+
+        replaceDecorations(remaining);
+    }
+
+    private void replaceDecorations(List<Decoration> ordered) {
+        List<Decoration> reindexed = new ArrayList<>();
+
+        for (int i = 0; i < ordered.size(); i++) {
+            reindexed.add(ordered.get(i).withOrderIndex(i));
+        }
+
+        this.decorations = reindexed;
+    }
 }
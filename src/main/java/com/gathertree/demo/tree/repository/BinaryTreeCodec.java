@@ -0,0 +1,318 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 직접 정의한 바이너리 형식 (v1)
+ *
+ * <pre>
+ * u8   version (0x01)
+ * i64  revision
+ * i64  createdAt  (epoch millis, UTC)
+ * i64  updatedAt
+ * u8   장식 개수
+ * text uuid
+ * text baseImageUrl
+ * 장식 * 개수
+ *   u8   orderIndex
+ *   text id
+ *   text authorName
+ *   text imageUrl
+ *   i64  createdAt
+ * </pre>
+ *
+ * text = u8 tag + 값
+ * - UUID는 16 byte, 이미지 URL은 public-url / trees/{uuid}/ 를 뺀 상대 key만 저장
+ *
+ * ⚠️ 앞 26 byte(고정 헤더) 위치는 tree-binary-add-decoration.lua와 맞물려 있음
+ */
+public class BinaryTreeCodec implements TreeCodec {
+
+    static final byte VERSION = 0x01;
+
+    private static final RedisScript<Long> ADD_DECORATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-binary-add-decoration.lua"), Long.class);
+
+    private static final long NULL_TIME = Long.MIN_VALUE;
+
+    /* ===== text tag ===== */
+    private static final int TAG_NULL = 0;
+    private static final int TAG_TEXT = 1;
+    private static final int TAG_UUID = 2;
+    private static final int TAG_TREE_KEY = 3;   // {public-url}/trees/{uuid}/ 하위
+    private static final int TAG_PUBLIC_KEY = 4; // {public-url}/ 하위
+
+    private final String publicUrlPrefix;
+
+    public BinaryTreeCodec(String publicUrl) {
+        this.publicUrlPrefix = publicUrl + "/";
+    }
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length > 0 && data[0] == VERSION;
+    }
+
+    @Override
+    public byte[] encode(Tree tree) {
+        List<Decoration> decorations = tree.getDecorations() != null ? tree.getDecorations() : List.of();
+
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+            DataOutputStream out = new DataOutputStream(bytes);
+
+            out.writeByte(VERSION);
+            out.writeLong(tree.getRevision());
+            writeTime(out, tree.getCreatedAt());
+            writeTime(out, tree.getUpdatedAt());
+            out.writeByte(decorations.size());
+
+            writeText(out, tree.getUuid(), null);
+            writeText(out, tree.getBaseImageUrl(), tree.getUuid());
+
+            for (Decoration decoration : decorations) {
+                writeDecoration(out, decoration, tree.getUuid());
+            }
+
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public Tree decode(byte[] data) {
+        try {
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(data));
+
+            int version = in.readUnsignedByte();
+            if (version != VERSION) {
+                throw new IOException("지원하지 않는 트리 형식 버전: " + version);
+            }
+
+            long revision = in.readLong();
+            LocalDateTime createdAt = readTime(in);
+            LocalDateTime updatedAt = readTime(in);
+            int count = in.readUnsignedByte();
+
+            String uuid = readText(in, null);
+            String baseImageUrl = readText(in, uuid);
+
+            List<Decoration> decorations = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                decorations.add(readDecoration(in, uuid));
+            }
+
+            return Tree.builder()
+                    .uuid(uuid)
+                    .baseImageUrl(baseImageUrl)
+                    .decorations(decorations)
+                    .createdAt(createdAt)
+                    .updatedAt(updatedAt)
+                    .revision(revision)
+                    .build();
+
+        } catch (IOException e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 파싱 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public RedisScript<Long> appendScript() {
+        return ADD_DECORATION_SCRIPT;
+    }
+
+    /**
+     * 장식 레코드 (첫 byte orderIndex는 스크립트에서 덮어씀)
+     */
+    @Override
+    public byte[] encodeDecoration(String uuid, Decoration decoration) {
+        try {
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+            writeDecoration(new DataOutputStream(bytes), decoration, uuid);
+            return bytes.toByteArray();
+
+        } catch (IOException e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public byte[] encodeTimestamp(LocalDateTime time) {
+        return ByteBuffer.allocate(Long.BYTES).putLong(toMillis(time)).array();
+    }
+
+    /* =========================
+       장식
+       ========================= */
+    private void writeDecoration(DataOutputStream out, Decoration decoration, String uuid) throws IOException {
+        out.writeByte(decoration.getOrderIndex());
+        writeText(out, decoration.getId(), null);
+        writeText(out, decoration.getAuthorName(), null);
+        writeText(out, decoration.getImageUrl(), uuid);
+        writeTime(out, decoration.getCreatedAt());
+    }
+
+    private Decoration readDecoration(DataInputStream in, String uuid) throws IOException {
+        int orderIndex = in.readUnsignedByte();
+
+        return Decoration.builder()
+                .orderIndex(orderIndex)
+                .id(readText(in, null))
+                .authorName(readText(in, null))
+                .imageUrl(readText(in, uuid))
+                .createdAt(readTime(in))
+                .build();
+    }
+
+    /* =========================
+       text
+       ========================= */
+
+    /**
+     * @param uuid 트리 UUID (이미지 URL을 상대 key로 줄일 때 사용, 없으면 null)
+     */
+    private void writeText(DataOutputStream out, String value, String uuid) throws IOException {
+        if (value == null) {
+            out.writeByte(TAG_NULL);
+            return;
+        }
+
+        UUID id = parseUuid(value);
+        if (id != null) {
+            out.writeByte(TAG_UUID);
+            out.writeLong(id.getMostSignificantBits());
+            out.writeLong(id.getLeastSignificantBits());
+            return;
+        }
+
+        if (value.startsWith(publicUrlPrefix)) {
+            String key = value.substring(publicUrlPrefix.length());
+            String treePrefix = uuid != null ? "trees/" + uuid + "/" : null;
+
+            if (treePrefix != null && key.startsWith(treePrefix)) {
+                out.writeByte(TAG_TREE_KEY);
+                writeUtf8(out, key.substring(treePrefix.length()));
+            } else {
+                out.writeByte(TAG_PUBLIC_KEY);
+                writeUtf8(out, key);
+            }
+            return;
+        }
+
+        out.writeByte(TAG_TEXT);
+        writeUtf8(out, value);
+    }
+
+    private String readText(DataInputStream in, String uuid) throws IOException {
+        int tag = in.readUnsignedByte();
+
+        return switch (tag) {
+            case TAG_NULL -> null;
+            case TAG_TEXT -> readUtf8(in);
+            case TAG_UUID -> new UUID(in.readLong(), in.readLong()).toString();
+            case TAG_TREE_KEY -> publicUrlPrefix + "trees/" + uuid + "/" + readUtf8(in);
+            case TAG_PUBLIC_KEY -> publicUrlPrefix + readUtf8(in);
+            default -> throw new IOException("알 수 없는 text tag: " + tag);
+        };
+    }
+
+    /**
+     * 표준 UTF-8 + varint 길이 (writeUTF의 64KB 제한 없음)
+     */
+    private static void writeUtf8(DataOutputStream out, String value) throws IOException {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+
+        int length = bytes.length;
+        while ((length & ~0x7F) != 0) {
+            out.writeByte((length & 0x7F) | 0x80);
+            length >>>= 7;
+        }
+        out.writeByte(length);
+
+        out.write(bytes);
+    }
+
+    private static String readUtf8(DataInputStream in) throws IOException {
+        int length = 0;
+        for (int shift = 0; ; shift += 7) {
+            if (shift > 28) {
+                throw new IOException("잘못된 길이 값");
+            }
+            int b = in.readUnsignedByte();
+            length |= (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                break;
+            }
+        }
+
+        byte[] bytes = new byte[length];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 정규 형식(소문자 36자)일 때만 UUID로 저장 (복원 시 원문과 같아야 함)
+     */
+    private static UUID parseUuid(String value) {
+        if (value.length() != 36) {
+            return null;
+        }
+        try {
+            UUID id = UUID.fromString(value);
+            return id.toString().equals(value) ? id : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    /* =========================
+       time
+       ========================= */
+    private static void writeTime(DataOutputStream out, LocalDateTime time) throws IOException {
+        out.writeLong(toMillis(time));
+    }
+
+    private static LocalDateTime readTime(DataInputStream in) throws IOException {
+        long millis = in.readLong();
+        return millis == NULL_TIME
+                ? null
+                : LocalDateTime.ofInstant(Instant.ofEpochMilli(millis), ZoneOffset.UTC);
+    }
+
+    private static long toMillis(LocalDateTime time) {
+        return time == null ? NULL_TIME : time.toInstant(ZoneOffset.UTC).toEpochMilli();
+    }
+}
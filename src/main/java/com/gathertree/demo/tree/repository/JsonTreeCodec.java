@@ -0,0 +1,74 @@
+package com.gathertree.demo.tree.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+
+/**
+ * Jackson JSON (기존 형식)
+ */
+@RequiredArgsConstructor
+public class JsonTreeCodec implements TreeCodec {
+
+    private static final RedisScript<Long> ADD_DECORATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-json-add-decoration.lua"), Long.class);
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean canDecode(byte[] data) {
+        return data.length > 0 && data[0] == '{';
+    }
+
+    @Override
+    public byte[] encode(Tree tree) {
+        return write(tree);
+    }
+
+    @Override
+    public Tree decode(byte[] data) {
+        try {
+            return objectMapper.readValue(data, Tree.class);
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 파싱 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public RedisScript<Long> appendScript() {
+        return ADD_DECORATION_SCRIPT;
+    }
+
+    @Override
+    public byte[] encodeDecoration(String uuid, Decoration decoration) {
+        return write(decoration);
+    }
+
+    @Override
+    public byte[] encodeTimestamp(LocalDateTime time) {
+        return write(time);
+    }
+
+    private byte[] write(Object value) {
+        try {
+            return objectMapper.writeValueAsBytes(value);
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+}
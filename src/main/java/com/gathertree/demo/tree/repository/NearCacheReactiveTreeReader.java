@@ -0,0 +1,69 @@
+package com.gathertree.demo.tree.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * reactive 조회용 near cache
+ * - TreeRepository.INVALIDATION_CHANNEL 구독 (servlet 배포의 저장소가 수정 시 발행)
+ * - 로딩은 non-blocking future라 Cache.get(key, loader)를 그대로 사용 (같은 키 동시 미스는 한 번만 조회)
+ *
+ * ⚠️ 캐시된 Tree는 여러 요청이 공유하므로 조회 측에서 변경하면 안 됨
+ */
+@RequiredArgsConstructor
+public class NearCacheReactiveTreeReader implements ReactiveTreeReader, MessageListener {
+
+    private final ReactiveTreeReader delegate;
+    private final AsyncCache<String, Tree> cache;
+
+    @Override
+    public Mono<Tree> findByUuid(String uuid) {
+        // 한 구독자가 취소해도 공유 중인 로딩은 취소하지 않음
+        return Mono.fromFuture(
+                () -> cache.get(uuid, (key, executor) -> delegate.findByUuid(key).toFuture()),
+                true
+        );
+    }
+
+    @Override
+    public Mono<Long> findRevision(String uuid) {
+        CompletableFuture<Tree> cached = cache.getIfPresent(uuid);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            Tree tree = cached.join();
+            if (tree != null) {
+                return Mono.just(tree.getRevision());
+            }
+        }
+
+        return delegate.findRevision(uuid);
+    }
+
+    /**
+     * 로컬 캐시에 없는 uuid만 모아 한 번에 조회
+     */
+    @Override
+    public Mono<Map<String, Tree>> findAllByUuid(Collection<String> uuids) {
+        return Mono.fromFuture(
+                () -> cache.getAll(
+                        uuids,
+                        (keys, executor) -> delegate.findAllByUuid(List.copyOf(keys)).toFuture()
+                ),
+                true
+        );
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.synchronous().invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,186 @@
+package com.gathertree.demo.tree.repository;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * 인스턴스 로컬 near cache
+ * - 조회는 로컬 캐시 → 미스 시 Redis
+ * - 쓰기는 Redis 반영 후 로컬 무효화 (다른 인스턴스 / reactive 배포로의 전파는 저장소가 INVALIDATION_CHANNEL로 발행)
+ * - pub/sub 메시지 유실에 대비해 TTL로 최대 지연을 제한
+ *
+ * ⚠️ 캐시된 Tree는 여러 요청이 공유하므로 조회 측에서 변경하면 안 됨
+ *
+ * 로딩(Redis I/O)은 캐시 내부 lock 밖에서 호출 스레드가 직접 수행
+ * - Cache.get(key, loader)는 ConcurrentHashMap bin lock(synchronized) 안에서 loader를 실행하므로
+ *   virtual thread가 I/O 동안 carrier thread를 pinning 함
+ */
+@RequiredArgsConstructor
+public class NearCacheTreeRepository implements TreeRepository, MessageListener {
+
+    private final TreeRepository delegate;
+    private final AsyncCache<String, Tree> cache;
+
+    @Override
+    public Optional<Tree> findByUuid(String uuid) {
+        // 같은 키 동시 미스는 한 번만 로딩, null(없는 트리)은 Caffeine이 자동 제거
+        CompletableFuture<Tree> loading = new CompletableFuture<>();
+        CompletableFuture<Tree> existing = cache.asMap().putIfAbsent(uuid, loading);
+
+        if (existing != null) {
+            return Optional.ofNullable(await(existing));
+        }
+
+        try {
+            loading.complete(delegate.findByUuid(uuid).orElse(null));
+        } catch (RuntimeException e) {
+            loading.completeExceptionally(e);
+            throw e;
+        }
+
+        return Optional.ofNullable(loading.join());
+    }
+
+    /**
+     * 로컬 캐시에 없는 uuid만 모아 한 번에 조회
+     * - 다른 요청이 이미 로딩 중인 uuid는 그 결과를 기다림
+     */
+    @Override
+    public Map<String, Tree> findAllByUuid(Collection<String> uuids) {
+        Map<String, CompletableFuture<Tree>> futures = new LinkedHashMap<>();
+        Map<String, CompletableFuture<Tree>> loading = new HashMap<>();
+
+        for (String uuid : uuids) {
+            CompletableFuture<Tree> future = new CompletableFuture<>();
+            CompletableFuture<Tree> existing = cache.asMap().putIfAbsent(uuid, future);
+
+            if (existing != null) {
+                futures.put(uuid, existing);
+            } else {
+                futures.put(uuid, future);
+                loading.put(uuid, future);
+            }
+        }
+
+        if (!loading.isEmpty()) {
+            try {
+                Map<String, Tree> loaded = delegate.findAllByUuid(loading.keySet());
+                loading.forEach((uuid, future) -> future.complete(loaded.get(uuid)));
+            } catch (RuntimeException e) {
+                loading.values().forEach(future -> future.completeExceptionally(e));
+                throw e;
+            }
+        }
+
+        Map<String, Tree> found = new LinkedHashMap<>();
+        futures.forEach((uuid, future) -> {
+            Tree tree = await(future);
+            if (tree != null) {
+                found.put(uuid, tree);
+            }
+        });
+        return found;
+    }
+
+    @Override
+    public OptionalLong findRevision(String uuid) {
+        CompletableFuture<Tree> cached = cache.getIfPresent(uuid);
+        if (cached != null && cached.isDone() && !cached.isCompletedExceptionally()) {
+            Tree tree = cached.join();
+            if (tree != null) {
+                return OptionalLong.of(tree.getRevision());
+            }
+        }
+
+        return delegate.findRevision(uuid);
+    }
+
+    @Override
+    public void save(Tree tree) {
+        delegate.save(tree);
+        invalidate(tree.getUuid());
+    }
+
+    @Override
+    public int appendDecoration(String uuid, Decoration decoration, int maxDecorations) {
+        try {
+            return delegate.appendDecoration(uuid, decoration, maxDecorations);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void changeBaseImageUrl(String uuid, String baseImageUrl) {
+        try {
+            delegate.changeBaseImageUrl(uuid, baseImageUrl);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public boolean compareAndSetBaseImageUrl(String uuid, String expectedBaseImageUrl, String baseImageUrl) {
+        try {
+            return delegate.compareAndSetBaseImageUrl(uuid, expectedBaseImageUrl, baseImageUrl);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void reorderDecorations(String uuid, List<String> order) {
+        try {
+            delegate.reorderDecorations(uuid, order);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    @Override
+    public void deleteDecoration(String uuid, String decorationId) {
+        try {
+            delegate.deleteDecoration(uuid, decorationId);
+        } finally {
+            invalidate(uuid);
+        }
+    }
+
+    /**
+     * 저장소가 발행한 무효화 메시지 수신 (자기 인스턴스의 쓰기 포함)
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        cache.synchronous().invalidate(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private Tree await(CompletableFuture<Tree> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void invalidate(String uuid) {
+        cache.synchronous().invalidate(uuid);
+    }
+}
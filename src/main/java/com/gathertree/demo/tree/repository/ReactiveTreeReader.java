@@ -0,0 +1,32 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.tree.model.Tree;
+import reactor.core.publisher.Mono;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 트리 조회 (reactive 배포용, 읽기 전용)
+ * - TreeRepository 조회 메서드와 같은 의미를 non-blocking으로 제공
+ * - 쓰기는 servlet 배포의 TreeRepository가 담당
+ */
+public interface ReactiveTreeReader {
+
+    /**
+     * @return 트리가 없으면 empty
+     */
+    Mono<Tree> findByUuid(String uuid);
+
+    /**
+     * 트리 revision만 조회
+     *
+     * @return 트리가 없으면 empty
+     */
+    Mono<Long> findRevision(String uuid);
+
+    /**
+     * @return 존재하는 트리만 (uuid → Tree)
+     */
+    Mono<Map<String, Tree>> findAllByUuid(Collection<String> uuids);
+}
@@ -0,0 +1,344 @@
+package com.gathertree.demo.tree.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.Set;
+
+/**
+ * hash + zset 레이아웃
+ * - tree:{uuid}:meta            : 트리 메타데이터 (hash)
+ * - tree:{uuid}:decorations     : 장식 순서 (zset, score = orderIndex)
+ * - tree:{uuid}:decoration-data : 장식 데이터 (hash, 장식 ID → JSON)
+ *
+ * 변경된 필드만 기록하므로 순서 변경 / 삭제 시 장식 데이터를 다시 쓰지 않음
+ * 수정이 반영되면 INVALIDATION_CHANNEL로 발행 (near cache 사용 여부와 무관)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisHashTreeRepository implements TreeRepository {
+
+    private static final String TREE_KEY_PREFIX = "tree:";
+
+    private static final String FIELD_UUID = "uuid";
+    private static final String FIELD_BASE_IMAGE_URL = "baseImageUrl";
+    private static final String FIELD_CREATED_AT = "createdAt";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+    private static final String FIELD_REVISION = "revision";
+
+    private static final RedisScript<Long> ADD_DECORATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-hash-add-decoration.lua"), Long.class);
+    private static final RedisScript<Long> CHANGE_BASE_IMAGE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-hash-change-base-image.lua"), Long.class);
+    private static final RedisScript<Long> REORDER_DECORATIONS_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-hash-reorder-decorations.lua"), Long.class);
+    private static final RedisScript<Long> DELETE_DECORATION_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-hash-delete-decoration.lua"), Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    @Override
+    public Optional<Tree> findByUuid(String uuid) {
+        // 3개 키를 한 번의 round trip으로 조회
+        List<Object> results = readPipelined(List.of(uuid));
+
+        return Optional.ofNullable(toTree(results, 0));
+    }
+
+    /**
+     * 트리마다 3개 키를 모두 한 번의 pipeline으로 조회
+     */
+    @Override
+    public Map<String, Tree> findAllByUuid(Collection<String> uuids) {
+        List<Object> results = readPipelined(uuids);
+
+        Map<String, Tree> found = new LinkedHashMap<>();
+        int offset = 0;
+        for (String uuid : uuids) {
+            Tree tree = toTree(results, offset);
+            if (tree != null) {
+                found.put(uuid, tree);
+            }
+            offset += 3;
+        }
+        return found;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Object> readPipelined(Collection<String> uuids) {
+        return redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            public <K, V> Object execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+                for (String uuid : uuids) {
+                    ops.opsForHash().entries(metaKey(uuid));
+                    ops.opsForZSet().rangeWithScores(decorationsKey(uuid), 0, -1);
+                    ops.opsForHash().entries(decorationDataKey(uuid));
+                }
+                return null;
+            }
+        });
+    }
+
+    /**
+     * pipeline 결과(meta, order, data)로 Tree 조립
+     *
+     * @return 트리가 없으면 null
+     */
+    @SuppressWarnings("unchecked")
+    private Tree toTree(List<Object> results, int offset) {
+        Map<Object, Object> meta = (Map<Object, Object>) results.get(offset);
+        if (meta == null || meta.isEmpty()) {
+            return null;
+        }
+
+        Set<TypedTuple<String>> order = (Set<TypedTuple<String>>) results.get(offset + 1);
+        Map<Object, Object> data = (Map<Object, Object>) results.get(offset + 2);
+
+        try {
+            List<Decoration> decorations = new ArrayList<>();
+
+            if (order != null) {
+                for (TypedTuple<String> tuple : order) {
+                    String json = (String) data.get(tuple.getValue());
+                    if (json == null) {
+                        continue;
+                    }
+
+                    decorations.add(
+                            objectMapper.readValue(json, Decoration.class)
+                                    .withOrderIndex(tuple.getScore().intValue())
+                    );
+                }
+            }
+
+            return Tree.builder()
+                    .uuid((String) meta.get(FIELD_UUID))
+                    .baseImageUrl((String) meta.get(FIELD_BASE_IMAGE_URL))
+                    .decorations(decorations)
+                    .createdAt(LocalDateTime.parse((String) meta.get(FIELD_CREATED_AT)))
+                    .updatedAt(LocalDateTime.parse((String) meta.get(FIELD_UPDATED_AT)))
+                    .revision(parseRevision((String) meta.get(FIELD_REVISION)))
+                    .build();
+
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 파싱 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    @Override
+    public OptionalLong findRevision(String uuid) {
+        Object revision = redisTemplate.opsForHash().get(metaKey(uuid), FIELD_REVISION);
+
+        if (revision != null) {
+            return OptionalLong.of(parseRevision((String) revision));
+        }
+
+        // revision 필드가 없는 트리는 0
+        return Boolean.TRUE.equals(redisTemplate.hasKey(metaKey(uuid)))
+                ? OptionalLong.of(0)
+                : OptionalLong.empty();
+    }
+
+    @Override
+    public void save(Tree tree) {
+        String uuid = tree.getUuid();
+
+        Map<String, String> meta = new HashMap<>();
+        meta.put(FIELD_UUID, uuid);
+        meta.put(FIELD_BASE_IMAGE_URL, tree.getBaseImageUrl());
+        meta.put(FIELD_CREATED_AT, tree.getCreatedAt().toString());
+        meta.put(FIELD_UPDATED_AT, tree.getUpdatedAt().toString());
+        meta.put(FIELD_REVISION, String.valueOf(tree.getRevision()));
+
+        Map<String, String> decorationData = new LinkedHashMap<>();
+        try {
+            for (Decoration decoration : tree.getDecorations()) {
+                decorationData.put(decoration.getId(), objectMapper.writeValueAsString(decoration));
+            }
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+
+        List<String> keys = keys(uuid);
+
+        redisTemplate.execute(new SessionCallback<List<Object>>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> List<Object> execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, String> ops = (RedisOperations<String, String>) operations;
+
+                ops.multi();
+                ops.delete(keys);
+                ops.opsForHash().putAll(metaKey(uuid), meta);
+
+                for (Decoration decoration : tree.getDecorations()) {
+                    ops.opsForZSet().add(decorationsKey(uuid), decoration.getId(), decoration.getOrderIndex());
+                }
+                if (!decorationData.isEmpty()) {
+                    ops.opsForHash().putAll(decorationDataKey(uuid), decorationData);
+                }
+
+                keys.forEach(key -> ops.expire(key, ttl));
+
+                return ops.exec();
+            }
+        });
+    }
+
+    @Override
+    public int appendDecoration(String uuid, Decoration decoration, int maxDecorations) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(decoration);
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+
+        Long result = redisTemplate.execute(
+                ADD_DECORATION_SCRIPT,
+                keys(uuid),
+                decoration.getId(),
+                json,
+                String.valueOf(maxDecorations),
+                LocalDateTime.now().toString(),
+                String.valueOf(ttl.toSeconds())
+        );
+
+        int orderIndex = (int) TreeScriptResult.check(result);
+        publishInvalidation(uuid);
+        return orderIndex;
+    }
+
+    @Override
+    public void changeBaseImageUrl(String uuid, String baseImageUrl) {
+        TreeScriptResult.check(executeChangeBaseImage(uuid, "", baseImageUrl));
+        publishInvalidation(uuid);
+    }
+
+    @Override
+    public boolean compareAndSetBaseImageUrl(String uuid, String expectedBaseImageUrl, String baseImageUrl) {
+        Long result = executeChangeBaseImage(uuid, expectedBaseImageUrl, baseImageUrl);
+
+        if (result != null && result == TreeScriptResult.REVISION_CONFLICT) {
+            return false;
+        }
+        TreeScriptResult.check(result);
+        publishInvalidation(uuid);
+        return true;
+    }
+
+    /**
+     * @param expectedBaseImageUrl '' 이면 확인하지 않음
+     */
+    private Long executeChangeBaseImage(String uuid, String expectedBaseImageUrl, String baseImageUrl) {
+        return redisTemplate.execute(
+                CHANGE_BASE_IMAGE_SCRIPT,
+                keys(uuid),
+                baseImageUrl,
+                LocalDateTime.now().toString(),
+                String.valueOf(ttl.toSeconds()),
+                expectedBaseImageUrl
+        );
+    }
+
+    @Override
+    public void reorderDecorations(String uuid, List<String> order) {
+        List<String> args = new ArrayList<>();
+        args.add(LocalDateTime.now().toString());
+        args.add(String.valueOf(ttl.toSeconds()));
+        args.addAll(order);
+
+        Long result = redisTemplate.execute(
+                REORDER_DECORATIONS_SCRIPT,
+                keys(uuid),
+                args.toArray()
+        );
+
+        TreeScriptResult.check(result);
+        publishInvalidation(uuid);
+    }
+
+    @Override
+    public void deleteDecoration(String uuid, String decorationId) {
+        Long result = redisTemplate.execute(
+                DELETE_DECORATION_SCRIPT,
+                keys(uuid),
+                decorationId,
+                LocalDateTime.now().toString(),
+                String.valueOf(ttl.toSeconds())
+        );
+
+        TreeScriptResult.check(result);
+        publishInvalidation(uuid);
+    }
+
+    /**
+     * 발행 실패는 near cache TTL로 보정되므로 수정 자체는 실패시키지 않음
+     */
+    private void publishInvalidation(String uuid) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, uuid);
+        } catch (Exception e) {
+            log.warn("트리 무효화 발행 실패 uuid={}", uuid, e);
+        }
+    }
+
+    private long parseRevision(String revision) {
+        return revision == null ? 0 : Long.parseLong(revision);
+    }
+
+    /* =========================
+       Key
+       ========================= */
+    private List<String> keys(String uuid) {
+        return List.of(metaKey(uuid), decorationsKey(uuid), decorationDataKey(uuid));
+    }
+
+    private String metaKey(String uuid) {
+        return TREE_KEY_PREFIX + uuid + ":meta";
+    }
+
+    private String decorationsKey(String uuid) {
+        return TREE_KEY_PREFIX + uuid + ":decorations";
+    }
+
+    private String decorationDataKey(String uuid) {
+        return TREE_KEY_PREFIX + uuid + ":decoration-data";
+    }
+}
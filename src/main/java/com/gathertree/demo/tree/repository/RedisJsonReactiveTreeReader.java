@@ -0,0 +1,61 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JSON blob 레이아웃 reactive 조회
+ * - 키 / 값 형식은 RedisJsonTreeRepository와 동일 (TreeCodec 공유)
+ */
+@RequiredArgsConstructor
+public class RedisJsonReactiveTreeReader implements ReactiveTreeReader {
+
+    private final ReactiveRedisTemplate<String, byte[]> redisTemplate;
+    private final List<TreeCodec> readableCodecs;
+
+    @Override
+    public Mono<Tree> findByUuid(String uuid) {
+        return redisTemplate.opsForValue()
+                .get(RedisJsonTreeRepository.treeKey(uuid))
+                .map(data -> TreeCodec.decode(readableCodecs, data));
+    }
+
+    @Override
+    public Mono<Long> findRevision(String uuid) {
+        return redisTemplate.opsForValue()
+                .get(RedisJsonTreeRepository.revisionKey(uuid))
+                .map(RedisJsonTreeRepository::parseRevision)
+                // revision 키가 생기기 전에 저장된 트리
+                .switchIfEmpty(Mono.defer(() -> findByUuid(uuid).map(Tree::getRevision)));
+    }
+
+    @Override
+    public Mono<Map<String, Tree>> findAllByUuid(Collection<String> uuids) {
+        List<String> keys = new ArrayList<>(uuids.size());
+        for (String uuid : uuids) {
+            keys.add(RedisJsonTreeRepository.treeKey(uuid));
+        }
+
+        return redisTemplate.opsForValue()
+                .multiGet(keys)
+                .map(values -> {
+                    Map<String, Tree> found = new LinkedHashMap<>();
+                    int i = 0;
+                    for (String uuid : uuids) {
+                        byte[] data = values.get(i++);
+                        if (data != null) {
+                            found.put(uuid, TreeCodec.decode(readableCodecs, data));
+                        }
+                    }
+                    return found;
+                });
+    }
+}
@@ -0,0 +1,293 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalLong;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+/**
+ * JSON blob 레이아웃 (기본값)
+ * - tree:{uuid}          : Tree 전체 (TreeCodec으로 인코딩, 기본 JSON)
+ * - tree:{uuid}:revision : 조건부 요청용 revision (blob과 항상 함께 기록)
+ *
+ * 장식 추가는 Lua 스크립트로, 나머지 수정은 revision 비교 후 저장(CAS)으로 처리
+ * - 조회는 저장된 형식에 맞는 codec으로, 저장은 항상 설정된 codec으로 (codec 전환 시 점진 마이그레이션)
+ * - 수정이 반영되면 INVALIDATION_CHANNEL로 발행 (near cache 사용 여부와 무관)
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisJsonTreeRepository implements TreeRepository {
+
+    private static final String TREE_KEY_PREFIX = "tree:";
+    private static final int MAX_UPDATE_ATTEMPTS = 5;
+
+    private static final RedisScript<Long> SAVE_SCRIPT =
+            RedisScript.of(new ClassPathResource("redis/tree-json-save.lua"), Long.class);
+
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    // 저장에 사용하는 codec
+    private final TreeCodec codec;
+
+    // 조회 가능한 모든 codec (첫 byte로 판별)
+    private final List<TreeCodec> readableCodecs;
+
+    private final Duration ttl;
+
+    @Override
+    public Optional<Tree> findByUuid(String uuid) {
+        byte[] data = redisTemplate.opsForValue().get(treeKey(uuid));
+
+        if (data == null) {
+            return Optional.empty();
+        }
+
+        return Optional.of(decode(data));
+    }
+
+    /**
+     * MGET 한 번으로 조회 후 병렬 디코딩
+     * - 클러스터에서는 드라이버가 slot별로 나눠 조회
+     */
+    @Override
+    public Map<String, Tree> findAllByUuid(Collection<String> uuids) {
+        List<String> keys = new ArrayList<>(uuids.size());
+        for (String uuid : uuids) {
+            keys.add(treeKey(uuid));
+        }
+
+        List<byte[]> values = redisTemplate.opsForValue().multiGet(keys);
+        if (values == null) {
+            return Map.of();
+        }
+
+        List<Tree> trees = values.parallelStream()
+                .map(data -> data != null ? decode(data) : null)
+                .toList();
+
+        Map<String, Tree> found = new LinkedHashMap<>();
+        int i = 0;
+        for (String uuid : uuids) {
+            Tree tree = trees.get(i++);
+            if (tree != null) {
+                found.put(uuid, tree);
+            }
+        }
+        return found;
+    }
+
+    @Override
+    public OptionalLong findRevision(String uuid) {
+        byte[] revision = redisTemplate.opsForValue().get(revisionKey(uuid));
+
+        if (revision != null) {
+            return OptionalLong.of(parseRevision(revision));
+        }
+
+        // revision 키가 생기기 전에 저장된 트리
+        return findByUuid(uuid)
+                .map(tree -> OptionalLong.of(tree.getRevision()))
+                .orElse(OptionalLong.empty());
+    }
+
+    @Override
+    public void save(Tree tree) {
+        saveScript(tree, "");
+    }
+
+    /**
+     * 장식 append를 Redis 서버에서 원자적으로 수행
+     * - GET → 파싱 → append → SET 사이에 다른 요청이 끼어들 수 없음
+     * - 동시 요청에서도 장식 유실 / 10개 초과가 발생하지 않음
+     * - 저장된 값이 설정과 다른 형식이면 CAS로 추가하면서 설정된 형식으로 다시 저장
+     */
+    @Override
+    public int appendDecoration(String uuid, Decoration decoration, int maxDecorations) {
+        Long result;
+
+        try {
+            result = redisTemplate.execute(
+                    codec.appendScript(),
+                    List.of(treeKey(uuid), revisionKey(uuid)),
+                    codec.encodeDecoration(uuid, decoration),
+                    ascii(maxDecorations),
+                    codec.encodeTimestamp(LocalDateTime.now()),
+                    ascii(ttl.toSeconds())
+            );
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+
+        if (result != null && result == TreeScriptResult.FORMAT_MISMATCH) {
+            return updateAndGet(uuid, tree -> tree.addDecoration(decoration, maxDecorations));
+        }
+
+        int orderIndex = (int) TreeScriptResult.check(result);
+        publishInvalidation(uuid);
+        return orderIndex;
+    }
+
+    @Override
+    public void changeBaseImageUrl(String uuid, String baseImageUrl) {
+        update(uuid, tree -> tree.changeBaseImageUrl(baseImageUrl));
+    }
+
+    @Override
+    public boolean compareAndSetBaseImageUrl(String uuid, String expectedBaseImageUrl, String baseImageUrl) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Tree tree = getOrThrow(uuid);
+            if (!Objects.equals(tree.getBaseImageUrl(), expectedBaseImageUrl)) {
+                return false;
+            }
+
+            long expectedRevision = tree.getRevision();
+            tree.changeBaseImageUrl(baseImageUrl);
+            tree.touch();
+
+            // revision 충돌이면 다시 읽어서 베이스 이미지부터 재확인
+            if (saveScript(tree, String.valueOf(expectedRevision)) != TreeScriptResult.REVISION_CONFLICT) {
+                publishInvalidation(uuid);
+                return true;
+            }
+        }
+
+        throw new GeneralException(
+                ErrorStatus.INTERNAL_SERVER_ERROR,
+                "동시 수정 요청이 많아 트리를 저장하지 못했습니다."
+        );
+    }
+
+    @Override
+    public void reorderDecorations(String uuid, List<String> order) {
+        update(uuid, tree -> tree.reorderDecorations(order));
+    }
+
+    @Override
+    public void deleteDecoration(String uuid, String decorationId) {
+        update(uuid, tree -> tree.removeDecoration(decorationId));
+    }
+
+    /**
+     * 읽기 → 변경 → revision 비교 후 저장
+     * - 그 사이 다른 요청이 먼저 저장했다면 다시 읽어서 재시도
+     * - 같은 revision에 서로 다른 내용이 저장되는 일이 없도록 보장 (ETag 정합성)
+     */
+    private void update(String uuid, Consumer<Tree> change) {
+        updateAndGet(uuid, tree -> {
+            change.accept(tree);
+            return null;
+        });
+    }
+
+    private <T> T updateAndGet(String uuid, Function<Tree, T> change) {
+        for (int attempt = 0; attempt < MAX_UPDATE_ATTEMPTS; attempt++) {
+            Tree tree = getOrThrow(uuid);
+            long expectedRevision = tree.getRevision();
+
+            T result = change.apply(tree);
+            tree.touch();
+
+            if (saveScript(tree, String.valueOf(expectedRevision)) != TreeScriptResult.REVISION_CONFLICT) {
+                publishInvalidation(uuid);
+                return result;
+            }
+        }
+
+        throw new GeneralException(
+                ErrorStatus.INTERNAL_SERVER_ERROR,
+                "동시 수정 요청이 많아 트리를 저장하지 못했습니다."
+        );
+    }
+
+    private long saveScript(Tree tree, String expectedRevision) {
+        Long result;
+
+        try {
+            result = redisTemplate.execute(
+                    SAVE_SCRIPT,
+                    List.of(treeKey(tree.getUuid()), revisionKey(tree.getUuid())),
+                    codec.encode(tree),
+                    ascii(tree.getRevision()),
+                    ascii(ttl.toSeconds()),
+                    expectedRevision.getBytes(StandardCharsets.US_ASCII)
+            );
+        } catch (GeneralException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+
+        if (result != null && result == TreeScriptResult.REVISION_CONFLICT) {
+            return result;
+        }
+        return TreeScriptResult.check(result);
+    }
+
+    /**
+     * 발행 실패는 near cache TTL로 보정되므로 수정 자체는 실패시키지 않음
+     */
+    private void publishInvalidation(String uuid) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL, uuid.getBytes(StandardCharsets.UTF_8));
+        } catch (Exception e) {
+            log.warn("트리 무효화 발행 실패 uuid={}", uuid, e);
+        }
+    }
+
+    private Tree decode(byte[] data) {
+        return TreeCodec.decode(readableCodecs, data);
+    }
+
+    static long parseRevision(byte[] revision) {
+        return Long.parseLong(new String(revision, StandardCharsets.US_ASCII));
+    }
+
+    private static byte[] ascii(long value) {
+        return String.valueOf(value).getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private Tree getOrThrow(String uuid) {
+        return findByUuid(uuid)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND));
+    }
+
+    /* =========================
+       Key
+       ========================= */
+    static String treeKey(String uuid) {
+        return TREE_KEY_PREFIX + uuid;
+    }
+
+    static String revisionKey(String uuid) {
+        return TREE_KEY_PREFIX + uuid + ":revision";
+    }
+}
@@ -0,0 +1,60 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JSON blob 레이아웃(tree:{uuid})의 값 인코딩
+ * - 구현체는 gathertree.redis.tree-codec 설정으로 선택 (json | binary)
+ * - 저장은 설정된 codec으로, 조회는 첫 byte로 형식을 판별해 모든 codec을 지원 (점진 전환)
+ */
+public interface TreeCodec {
+
+    /**
+     * 이 codec으로 인코딩된 값인지 (첫 byte로 판별)
+     */
+    boolean canDecode(byte[] data);
+
+    byte[] encode(Tree tree);
+
+    Tree decode(byte[] data);
+
+    /* =========================
+       장식 append (Lua)
+       ========================= */
+
+    /**
+     * 저장된 값에 장식을 원자적으로 추가하는 스크립트
+     * - 값이 다른 형식이면 TreeScriptResult.FORMAT_MISMATCH 반환
+     */
+    RedisScript<Long> appendScript();
+
+    /**
+     * append 스크립트 인자 (orderIndex는 스크립트에서 부여)
+     */
+    byte[] encodeDecoration(String uuid, Decoration decoration);
+
+    byte[] encodeTimestamp(LocalDateTime time);
+
+    /**
+     * 저장된 형식에 맞는 codec으로 디코딩
+     */
+    static Tree decode(List<TreeCodec> codecs, byte[] data) {
+        for (TreeCodec codec : codecs) {
+            if (codec.canDecode(data)) {
+                return codec.decode(data);
+            }
+        }
+
+        throw new GeneralException(
+                ErrorStatus.INTERNAL_SERVER_ERROR,
+                "트리 데이터 파싱 중 오류가 발생했습니다."
+        );
+    }
+}
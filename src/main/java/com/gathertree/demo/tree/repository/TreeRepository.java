@@ -0,0 +1,72 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalLong;
+
+/**
+ * 트리 저장소
+ * - Redis 저장 레이아웃을 TreeService로부터 분리
+ * - 구현체는 gathertree.redis.tree-storage 설정으로 선택 (json | hash)
+ */
+public interface TreeRepository {
+
+    /**
+     * 트리 변경 알림 채널 (payload = uuid)
+     * - 저장소 구현체가 수정 성공 시 발행 → servlet / reactive near cache가 구독해 무효화
+     */
+    String INVALIDATION_CHANNEL = "tree:invalidate";
+
+    Optional<Tree> findByUuid(String uuid);
+
+    /**
+     * 여러 트리를 한 번의 round trip으로 조회
+     *
+     * @return 존재하는 트리만 (uuid → Tree), 없는 uuid는 포함하지 않음
+     */
+    Map<String, Tree> findAllByUuid(Collection<String> uuids);
+
+    /**
+     * 트리 revision만 조회 (트리 본문을 읽거나 파싱하지 않음)
+     * - 조건부 요청(If-None-Match) 처리용
+     */
+    OptionalLong findRevision(String uuid);
+
+    /**
+     * 트리 전체 저장 (생성 시)
+     */
+    void save(Tree tree);
+
+    /**
+     * 장식 추가
+     * - 개수 제한 확인 + orderIndex 부여를 원자적으로 수행
+     * - 같은 ID의 장식이 이미 있으면 추가하지 않음 (동시 재시도에도 중복 없음)
+     *
+     * @return 부여된 orderIndex (이미 있으면 기존 orderIndex)
+     */
+    int appendDecoration(String uuid, Decoration decoration, int maxDecorations);
+
+    void changeBaseImageUrl(String uuid, String baseImageUrl);
+
+    /**
+     * 현재 베이스 이미지가 expectedBaseImageUrl일 때만 변경
+     *
+     * @return 변경했으면 true, 그 사이 다른 요청이 먼저 변경했으면 false
+     */
+    boolean compareAndSetBaseImageUrl(String uuid, String expectedBaseImageUrl, String baseImageUrl);
+
+    /**
+     * 장식 ID 순서대로 orderIndex를 0부터 다시 부여
+     */
+    void reorderDecorations(String uuid, List<String> order);
+
+    /**
+     * 장식 삭제 후 남은 장식의 orderIndex 재정렬
+     */
+    void deleteDecoration(String uuid, String decorationId);
+}
@@ -0,0 +1,44 @@
+package com.gathertree.demo.tree.repository;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+
+/**
+ * 트리 Lua 스크립트 공통 반환 코드
+ * - 0 이상 : 정상 (스크립트별 의미)
+ * - 음수   : 실패 사유
+ */
+final class TreeScriptResult {
+
+    static final long TREE_NOT_FOUND = -1;
+    static final long LIMIT_EXCEEDED = -2;
+    static final long ORDER_SIZE_MISMATCH = -3;
+    static final long DECORATION_NOT_FOUND = -4;
+    static final long REVISION_CONFLICT = -5;
+    static final long FORMAT_MISMATCH = -6;
+
+    private TreeScriptResult() {
+    }
+
+    static long check(Long result) {
+        if (result == null) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 데이터 저장 중 오류가 발생했습니다."
+            );
+        }
+        if (result == TREE_NOT_FOUND) {
+            throw new GeneralException(ErrorStatus.TREE_NOT_FOUND);
+        }
+        if (result == LIMIT_EXCEEDED) {
+            throw new GeneralException(ErrorStatus.DECORATION_LIMIT_EXCEEDED);
+        }
+        if (result == ORDER_SIZE_MISMATCH) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST, "장식 개수가 일치하지 않습니다.");
+        }
+        if (result == DECORATION_NOT_FOUND) {
+            throw new GeneralException(ErrorStatus.DECORATION_NOT_FOUND);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,58 @@
+package com.gathertree.demo.tree.service;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.dto.request.TreeBatchRequest;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
+import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.repository.ReactiveTreeReader;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * 트리 조회 (reactive 배포)
+ * - 응답 변환 / 직렬화 캐시는 TreeService와 공유 (TreeResponseMapper, TreeResponseCache)
+ */
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RequiredArgsConstructor
+public class ReactiveTreeService {
+
+    private final ReactiveTreeReader treeReader;
+    private final TreeResponseCache treeResponseCache;
+    private final TreeResponseMapper treeResponseMapper;
+
+    /**
+     * 트리 조회 (직렬화된 응답)
+     */
+    public Mono<RenderedTree> getRenderedTree(String uuid) {
+        return getTreeOrError(uuid)
+                .map(tree -> treeResponseCache.get(tree, () -> treeResponseMapper.toResponse(tree)));
+    }
+
+    /**
+     * 현재 트리 ETag (revision만 조회)
+     */
+    public Mono<String> getTreeEtag(String uuid) {
+        return treeReader.findRevision(uuid)
+                .switchIfEmpty(Mono.error(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND)))
+                .map(RenderedTree::etagOf);
+    }
+
+    public Mono<TreeBatchResponse> getTrees(TreeBatchRequest request) {
+        Set<String> uuids = new LinkedHashSet<>(request.getUuids());
+
+        return treeReader.findAllByUuid(uuids)
+                .map(trees -> treeResponseMapper.toBatchResponse(uuids, trees));
+    }
+
+    private Mono<Tree> getTreeOrError(String uuid) {
+        return treeReader.findByUuid(uuid)
+                .switchIfEmpty(Mono.error(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND)));
+    }
+}
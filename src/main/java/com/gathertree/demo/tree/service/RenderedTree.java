@@ -0,0 +1,19 @@
+package com.gathertree.demo.tree.service;
+
+/**
+ * 직렬화가 끝난 트리 조회 응답
+ *
+ * @param revision 응답을 만든 트리 revision
+ * @param body     ApiResult<TreeResponse> JSON bytes
+ * @param etag     revision 기반 strong ETag (따옴표 포함)
+ */
+public record RenderedTree(
+        long revision,
+        byte[] body,
+        String etag
+) {
+
+    public static String etagOf(long revision) {
+        return "\"" + revision + "\"";
+    }
+}
@@ -0,0 +1,86 @@
+package com.gathertree.demo.tree.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gathertree.demo.global.response.ApiResult;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.dto.response.TreeResponse;
+import com.gathertree.demo.tree.model.Tree;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+
+/**
+ * 트리 조회 응답 캐시
+ * - 트리 revision 당 한 번만 정렬 / DTO 변환 / JSON 직렬화
+ * - 같은 revision 조회는 저장된 bytes를 그대로 응답
+ * - revision이 바뀌면 자동으로 다시 만들어지므로 별도 무효화 불필요
+ */
+@Component
+public class TreeResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final boolean enabled;
+    private final Cache<String, RenderedTree> cache;
+
+    public TreeResponseCache(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${gathertree.tree.response-cache.enabled:true}") boolean enabled,
+            @Value("${gathertree.tree.response-cache.maximum-bytes:33554432}") long maximumBytes
+    ) {
+        this.objectMapper = objectMapper;
+        this.enabled = enabled;
+        this.cache = Caffeine.newBuilder()
+                .maximumWeight(maximumBytes)
+                .weigher((String uuid, RenderedTree rendered) -> rendered.body().length)
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "tree.response-cache");
+    }
+
+    /**
+     * @param tree     조회한 트리
+     * @param response 캐시 미스 시 응답 DTO 생성
+     */
+    public RenderedTree get(Tree tree, Supplier<TreeResponse> response) {
+        if (!enabled) {
+            return render(tree, response);
+        }
+
+        RenderedTree cached = cache.getIfPresent(tree.getUuid());
+        if (cached != null && cached.revision() == tree.getRevision()) {
+            return cached;
+        }
+
+        RenderedTree rendered = render(tree, response);
+
+        // 동시에 렌더링된 경우 더 최신 revision만 남김
+        return cache.asMap().merge(
+                tree.getUuid(),
+                rendered,
+                (current, candidate) -> current.revision() >= candidate.revision() ? current : candidate
+        );
+    }
+
+    private RenderedTree render(Tree tree, Supplier<TreeResponse> response) {
+        try {
+            byte[] body = objectMapper.writeValueAsBytes(ApiResult.onSuccess(response.get()));
+
+            return new RenderedTree(tree.getRevision(), body, RenderedTree.etagOf(tree.getRevision()));
+
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 조회 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+}
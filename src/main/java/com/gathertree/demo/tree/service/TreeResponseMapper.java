@@ -0,0 +1,74 @@
+package com.gathertree.demo.tree.service;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.dto.response.DecorationResponse;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
+import com.gathertree.demo.tree.dto.response.TreeResponse;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tree → 조회 응답 변환
+ * - servlet(TreeService) / reactive(ReactiveTreeService) 조회 경로 공통
+ */
+@Component
+public class TreeResponseMapper {
+
+    public TreeResponse toResponse(Tree tree) {
+        try {
+            List<DecorationResponse> decorations = tree.getDecorations().stream()
+                    .sorted(Comparator.comparingInt(Decoration::getOrderIndex))
+                    .map(d -> DecorationResponse.builder()
+                            .id(d.getId())
+                            .authorName(d.getAuthorName())
+                            .orderIndex(d.getOrderIndex())
+                            .imageUrl(d.getImageUrl())
+                            .build())
+                    .toList();
+
+            return TreeResponse.builder()
+                    .uuid(tree.getUuid())
+                    .baseImageUrl(tree.getBaseImageUrl())
+                    .decorationCount(decorations.size())
+                    .decorations(decorations)
+                    .createdAt(tree.getCreatedAt())
+                    .build();
+
+        } catch (Exception e) {
+            throw new GeneralException(
+                    ErrorStatus.INTERNAL_SERVER_ERROR,
+                    "트리 조회 중 오류가 발생했습니다.",
+                    e
+            );
+        }
+    }
+
+    /**
+     * @param uuids 요청 순서 (중복 제거된 목록)
+     * @param trees 조회된 트리
+     */
+    public TreeBatchResponse toBatchResponse(Collection<String> uuids, Map<String, Tree> trees) {
+        Map<String, TreeResponse> found = new LinkedHashMap<>();
+        List<String> missing = new ArrayList<>();
+
+        for (String uuid : uuids) {
+            Tree tree = trees.get(uuid);
+            if (tree != null) {
+                found.put(uuid, toResponse(tree));
+            } else {
+                missing.add(uuid);
+            }
+        }
+
+        return new TreeBatchResponse(found, missing);
+    }
+}
@@ -1,313 +1,247 @@
 package com.gathertree.demo.tree.service;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gathertree.demo.global.response.exception.GeneralException;
 import com.gathertree.demo.global.response.status.ErrorStatus;
-import com.gathertree.demo.global.util.Base64ImageUtil;
 import com.gathertree.demo.image.service.S3ImageService;
 import com.gathertree.demo.tree.dto.request.DecorationCreateRequest;
+import com.gathertree.demo.tree.dto.request.TreeBatchRequest;
 import com.gathertree.demo.tree.dto.request.DecorationReorderRequest;
 import com.gathertree.demo.tree.dto.request.TreeCreateRequest;
 import com.gathertree.demo.tree.dto.response.DecorationCreateResponse;
-import com.gathertree.demo.tree.dto.response.DecorationResponse;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
 import com.gathertree.demo.tree.dto.response.TreeCreateResponse;
 import com.gathertree.demo.tree.dto.response.TreeResponse;
+import com.gathertree.demo.tree.event.TreeEvent;
+import com.gathertree.demo.tree.event.TreeEventHub;
+import com.gathertree.demo.tree.event.TreeEventPublisher;
+import com.gathertree.demo.tree.event.TreeEventType;
 import com.gathertree.demo.tree.model.Decoration;
 import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.repository.TreeRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.data.redis.core.RedisTemplate;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
+import java.util.LinkedHashSet;
+import java.util.Set;
 import java.util.UUID;
-import java.util.concurrent.TimeUnit;
-import java.util.stream.Collectors;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class TreeService {
 
-    private static final String TREE_KEY_PREFIX = "tree:";
-    private static final int TREE_TTL_HOURS = 24;
+    static final int MAX_DECORATIONS = 10;
 
-    private final RedisTemplate<String, String> redisTemplate;
-    private final ObjectMapper objectMapper;
+    private final TreeRepository treeRepository;
     private final S3ImageService s3ImageService;
+    private final TreeResponseCache treeResponseCache;
+    private final TreeResponseMapper treeResponseMapper;
+    private final TreeEventPublisher treeEventPublisher;
+    private final TreeEventHub treeEventHub;
 
     /* =========================
        트리 생성
        ========================= */
-    public TreeCreateResponse createTree(TreeCreateRequest request) {
+    public CompletableFuture<TreeCreateResponse> createTree(TreeCreateRequest request) {
+        // png (요청 역직렬화 시점에 디코딩 / 검증 완료)
+        return createTree(request.getImageBase64().bytes());
+    }
+
+    /**
+     * @param image 검증된 PNG (JSON base64 / multipart 공통)
+     */
+    public CompletableFuture<TreeCreateResponse> createTree(byte[] image) {
         String uuid = UUID.randomUUID().toString();
 
-        try {
-            // 1. base64 → png
-            byte[] imageBytes = Base64ImageUtil.decode(request.getImageBase64());
-
-            // 2. S3 업로드
-            String imageUrl = s3ImageService.uploadNew(
-                    imageBytes,
-                    "trees/" + uuid + "/base.png"
-            );
-
-            // 3. Tree 객체 생성
-            Tree tree = Tree.builder()
-                    .uuid(uuid)
-                    .baseImageUrl(imageUrl)
-                    .decorations(new ArrayList<>())
-                    .createdAt(LocalDateTime.now())
-                    .updatedAt(LocalDateTime.now())
-                    .build();
-
-            saveToRedis(tree);
-
-            return new TreeCreateResponse(uuid);
-
-        } catch (Exception e) {
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "트리 생성 중 오류가 발생했습니다.",
-                    e
-            );
-        }
+        // 1. S3 업로드 (비동기, 완료 후 Redis 저장)
+        return s3ImageService.uploadNewAsync(image, "trees/" + uuid + "/base.png")
+                .thenApply(imageUrl -> {
+                    // 2. Tree 객체 생성
+                    Tree tree = Tree.builder()
+                            .uuid(uuid)
+                            .baseImageUrl(imageUrl)
+                            .decorations(new ArrayList<>())
+                            .createdAt(LocalDateTime.now())
+                            .updatedAt(LocalDateTime.now())
+                            .build();
+
+                    treeRepository.save(tree);
+
+                    return new TreeCreateResponse(uuid);
+                })
+                .exceptionally(e -> {
+                    throw new GeneralException(
+                            ErrorStatus.INTERNAL_SERVER_ERROR,
+                            "트리 생성 중 오류가 발생했습니다.",
+                            unwrap(e)
+                    );
+                });
     }
 
     /* =========================
        트리 조회
        ========================= */
     public TreeResponse getTree(String uuid) {
-        Tree tree = getTreeFromRedis(uuid);
-
-        try {
-            List<DecorationResponse> decorations = tree.getDecorations().stream()
-                    .sorted(Comparator.comparingInt(Decoration::getOrderIndex))
-                    .map(d -> DecorationResponse.builder()
-                            .id(d.getId())
-                            .authorName(d.getAuthorName())
-                            .orderIndex(d.getOrderIndex())
-                            .imageUrl(d.getImageUrl())
-                            .build())
-                    .toList();
-
-            return TreeResponse.builder()
-                    .uuid(tree.getUuid())
-                    .baseImageUrl(tree.getBaseImageUrl())
-                    .decorationCount(decorations.size())
-                    .decorations(decorations)
-                    .createdAt(tree.getCreatedAt())
-                    .build();
-
-        } catch (Exception e) {
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "트리 조회 중 오류가 발생했습니다."
-            );
-        }
+        return treeResponseMapper.toResponse(getTreeOrThrow(uuid));
     }
 
-    /* =========================
-       트리 수정 (base.png overwrite)
-       ========================= */
-    public void updateTree(String uuid, TreeCreateRequest request) {
-        Tree tree = getTreeFromRedis(uuid);
+    /**
+     * 트리 조회 (직렬화된 응답)
+     * - 같은 revision이면 캐시된 JSON bytes를 그대로 반환
+     */
+    public RenderedTree getRenderedTree(String uuid) {
+        Tree tree = getTreeOrThrow(uuid);
+        return treeResponseCache.get(tree, () -> treeResponseMapper.toResponse(tree));
+    }
 
-        try {
-            // 1. base64 → png
-            byte[] imageBytes = Base64ImageUtil.decode(request.getImageBase64());
+    /**
+     * 트리 일괄 조회
+     * - 저장소 조회는 한 번의 round trip (MGET / pipeline)
+     */
+    public TreeBatchResponse getTrees(TreeBatchRequest request) {
+        Set<String> uuids = new LinkedHashSet<>(request.getUuids());
 
-            // 2. S3 overwrite (정책 명확)
-            String imageUrl = s3ImageService.overwrite(
-                    imageBytes,
-                    "trees/" + uuid + "/base.png"
-            );
+        return treeResponseMapper.toBatchResponse(uuids, treeRepository.findAllByUuid(uuids));
+    }
 
-            // 3. 상태 변경
-            tree.changeBaseImageUrl(imageUrl);
-            tree.touch();
+    /**
+     * 현재 트리 ETag (revision만 조회, 트리 본문은 읽지 않음)
+     */
+    public String getTreeEtag(String uuid) {
+        long revision = treeRepository.findRevision(uuid)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND));
 
-            saveToRedis(tree);
+        return RenderedTree.etagOf(revision);
+    }
 
-        } catch (Exception e) {
-            System.out.println(e.getMessage());
+    /* =========================
+       트리 수정 (base.png overwrite)
+       ========================= */
+    public CompletableFuture<Void> updateTree(String uuid, TreeCreateRequest request) {
+        return updateTree(uuid, request.getImageBase64().bytes());
+    }
 
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "트리 수정 중 오류가 발생했습니다.",
-                    e
-            );
-        }
+    public CompletableFuture<Void> updateTree(String uuid, byte[] image) {
+        getTreeOrThrow(uuid);
+
+        // 1. S3 overwrite (비동기, 완료 후 Redis 반영)
+        return s3ImageService.overwriteAsync(
+                        image,
+                        "trees/" + uuid + "/base.png"
+                )
+                .exceptionally(e -> {
+                    log.warn("트리 이미지 덮어쓰기 실패 uuid={}", uuid, unwrap(e));
+
+                    throw new GeneralException(
+                            ErrorStatus.INTERNAL_SERVER_ERROR,
+                            "트리 수정 중 오류가 발생했습니다.",
+                            unwrap(e)
+                    );
+                })
+                .thenAccept(imageUrl -> {
+                    // 2. 상태 변경 (변경된 필드만 저장)
+                    treeRepository.changeBaseImageUrl(uuid, imageUrl);
+
+                    treeEventPublisher.publish(TreeEvent.of(uuid, TreeEventType.BASE_UPDATED));
+                });
     }
 
     /* =========================
        장식 추가
        ========================= */
-    public DecorationCreateResponse addDecoration(
+    public CompletableFuture<DecorationCreateResponse> addDecoration(
             String uuid,
             DecorationCreateRequest request
     ) {
-        Tree tree = getTreeFromRedis(uuid);
-
-        if (tree.getDecorations().size() >= 10) {
-            throw new GeneralException(ErrorStatus.DECORATION_LIMIT_EXCEEDED);
-        }
-
-        try {
-            String decorationId = UUID.randomUUID().toString();
-
-            // 1. 이미지 업로드
-            byte[] imageBytes = Base64ImageUtil.decode(request.getImageBase64());
-            String imageUrl = s3ImageService.uploadNew(
-                    imageBytes,
-                    "trees/" + uuid + "/decorations/" + decorationId + ".png"
-            );
-
-            // 2. Decoration 생성
-            Decoration decoration = Decoration.builder()
-                    .id(decorationId)
-                    .authorName(request.getAuthorName())
-                    .imageUrl(imageUrl)
-                    .orderIndex(tree.getDecorations().size())
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            // 3. Tree 상태 변경
-            tree.getDecorations().add(decoration);
-            tree.touch();
-
-            saveToRedis(tree);
-
-            return new DecorationCreateResponse(
-                    decorationId,
-                    decoration.getOrderIndex()
-            );
-
-        } catch (Exception e) {
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "장식 추가 중 오류가 발생했습니다."
-            );
-        }
+        return addDecoration(uuid, request.getImageBase64().bytes(), request.getAuthorName());
     }
 
-    /* =========================
-       Redis 유틸 메서드
-       ========================= */
-    private Tree getTreeFromRedis(String uuid) {
-        String key = TREE_KEY_PREFIX + uuid;
-        String json = redisTemplate.opsForValue().get(key);
+    public CompletableFuture<DecorationCreateResponse> addDecoration(
+            String uuid,
+            byte[] image,
+            String authorName
+    ) {
+        Tree tree = getTreeOrThrow(uuid);
 
-        if (json == null) {
-            throw new GeneralException(ErrorStatus.TREE_NOT_FOUND);
+        // 빠른 거절 (최종 판정은 Lua 스크립트에서 원자적으로 수행)
+        if (tree.getDecorations().size() >= MAX_DECORATIONS) {
+            throw new GeneralException(ErrorStatus.DECORATION_LIMIT_EXCEEDED);
         }
 
-        try {
-            return objectMapper.readValue(json, Tree.class);
-        } catch (Exception e) {
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "트리 데이터 파싱 중 오류가 발생했습니다."
-            );
-        }
-    }
-
-    private void saveToRedis(Tree tree) {
-        try {
-            redisTemplate.opsForValue().set(
-                    TREE_KEY_PREFIX + tree.getUuid(),
-                    objectMapper.writeValueAsString(tree),
-                    TREE_TTL_HOURS,
-                    TimeUnit.HOURS
-            );
-        } catch (Exception e) {
-            throw new GeneralException(
-                    ErrorStatus.INTERNAL_SERVER_ERROR,
-                    "트리 데이터 저장 중 오류가 발생했습니다."
-            );
-        }
+        String decorationId = UUID.randomUUID().toString();
+
+        // 1. 이미지 업로드 (비동기)
+        return s3ImageService.uploadNewAsync(
+                        image,
+                        "trees/" + uuid + "/decorations/" + decorationId + ".png"
+                )
+                .exceptionally(e -> {
+                    throw new GeneralException(
+                            ErrorStatus.INTERNAL_SERVER_ERROR,
+                            "장식 추가 중 오류가 발생했습니다.",
+                            unwrap(e)
+                    );
+                })
+                .thenApply(imageUrl -> {
+                    // 2. Decoration 생성 (orderIndex는 Redis에서 부여)
+                    Decoration decoration = Decoration.builder()
+                            .id(decorationId)
+                            .authorName(authorName)
+                            .imageUrl(imageUrl)
+                            .createdAt(LocalDateTime.now())
+                            .build();
+
+                    // 3. 개수 제한 + orderIndex 부여 + TTL 갱신 (한 번의 round trip)
+                    int orderIndex = treeRepository.appendDecoration(uuid, decoration, MAX_DECORATIONS);
+
+                    treeEventPublisher.publish(
+                            TreeEvent.of(uuid, TreeEventType.DECORATION_ADDED, decorationId)
+                    );
+
+                    return new DecorationCreateResponse(decorationId, orderIndex);
+                });
     }
 
     public void reorderDecorations(String uuid, DecorationReorderRequest request) {
-        Tree tree = getTreeFromRedis(uuid);
-
-        List<Decoration> current = tree.getDecorations();
-        List<String> newOrder = request.getOrder();
+        treeRepository.reorderDecorations(uuid, request.getOrder());
 
-        if (current.size() != newOrder.size()) {
-            throw new GeneralException(ErrorStatus.BAD_REQUEST, "장식 개수가 일치하지 않습니다.");
-        }
-
-        // id → Decoration 매핑
-        var map = current.stream()
-                .collect(Collectors.toMap(Decoration::getId, d -> d));
-
-        List<Decoration> reordered = new ArrayList<>();
-
-        for (int i = 0; i < newOrder.size(); i++) {
-            String id = newOrder.get(i);
-            Decoration decoration = map.get(id);
-
-            if (decoration == null) {
-                throw new GeneralException(ErrorStatus.DECORATION_NOT_FOUND);
-            }
-
-            reordered.add(
-                    Decoration.builder()
-                            .id(decoration.getId())
-                            .authorName(decoration.getAuthorName())
-                            .imageUrl(decoration.getImageUrl())
-                            .orderIndex(i)
-                            .createdAt(decoration.getCreatedAt())
-                            .build()
-            );
-        }
+        treeEventPublisher.publish(TreeEvent.of(uuid, TreeEventType.DECORATIONS_REORDERED));
+    }
 
-        // 상태 변경
-        tree.getDecorations().clear();
-        tree.getDecorations().addAll(reordered);
-        tree.touch();
+    public void deleteDecoration(String uuid, String decorationId) {
+        treeRepository.deleteDecoration(uuid, decorationId);
 
-        saveToRedis(tree);
+        treeEventPublisher.publish(TreeEvent.of(uuid, TreeEventType.DECORATION_DELETED, decorationId));
     }
 
-    public void deleteDecoration(String uuid, String decorationId) {
-        Tree tree = getTreeFromRedis(uuid);
-
-        List<Decoration> decorations = tree.getDecorations();
-
-        Decoration target = decorations.stream()
-                .filter(d -> d.getId().equals(decorationId))
-                .findFirst()
-                .orElseThrow(() -> new GeneralException(ErrorStatus.DECORATION_NOT_FOUND));
-
-        // 제거
-        decorations.remove(target);
-
-        // orderIndex 재정렬
-        for (int i = 0; i < decorations.size(); i++) {
-            Decoration d = decorations.get(i);
-
-            decorations.set(
-                    i,
-                    Decoration.builder()
-                            .id(d.getId())
-                            .authorName(d.getAuthorName())
-                            .imageUrl(d.getImageUrl())
-                            .orderIndex(i)
-                            .createdAt(d.getCreatedAt())
-                            .build()
-            );
-        }
+    /* =========================
+       트리 변경 이벤트 구독 (SSE)
+       ========================= */
+    public SseEmitter subscribeEvents(String uuid) {
+        // 존재 확인 + 구독 시점 ETag 전달
+        String etag = getTreeEtag(uuid);
 
-        tree.touch();
-        saveToRedis(tree);
+        return treeEventHub.subscribe(uuid, etag);
     }
 
     // Tree 엔티티 반환 메서드
     public Tree getTreeEntity(String uuid) {
-        return getTreeFromRedis(uuid);
+        return getTreeOrThrow(uuid);
+    }
+
+    private Tree getTreeOrThrow(String uuid) {
+        return treeRepository.findByUuid(uuid)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND));
+    }
+
+    private static Throwable unwrap(Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
     }
 
 }
@@ -0,0 +1,294 @@
+package com.gathertree.demo.tree.service;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.global.util.PngImageSpec;
+import com.gathertree.demo.global.util.PngImageValidator;
+import com.gathertree.demo.image.service.S3ImageService;
+import com.gathertree.demo.image.service.UploadedImage;
+import com.gathertree.demo.s3.service.S3PresignedService;
+import com.gathertree.demo.tree.dto.request.BaseImageCommitRequest;
+import com.gathertree.demo.tree.dto.request.DecorationCommitRequest;
+import com.gathertree.demo.tree.dto.response.DecorationCreateResponse;
+import com.gathertree.demo.tree.dto.response.DirectUploadResponse;
+import com.gathertree.demo.tree.event.TreeEvent;
+import com.gathertree.demo.tree.event.TreeEventPublisher;
+import com.gathertree.demo.tree.event.TreeEventType;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.repository.TreeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * S3 직접 업로드 (Presigned POST → commit)
+ * - 클라이언트는 staging key(uploads/tmp/)에만 업로드 가능 (최종 key는 서명하지 않음)
+ * - 이미지 bytes는 앱 서버를 거치지 않음
+ * - commit 시 staging object의 PNG 헤더만 range GET으로 읽어 크기 / 타입 / 해상도 검증 후 최종 key로 서버 측 복사
+ * - 복사는 검증한 ETag 조건부 → 검증 이후 같은 key에 다시 올린 object는 반영되지 않음
+ * - commit 되지 않은 staging object는 uploads/tmp lifecycle 규칙으로 정리됨
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TreeUploadService {
+
+    private static final String STAGING_PREFIX = "uploads/tmp/";
+    private static final int MAX_COMMIT_ATTEMPTS = 5;
+
+    private final TreeRepository treeRepository;
+    private final S3ImageService s3ImageService;
+    private final S3PresignedService s3PresignedService;
+    private final TreeEventPublisher treeEventPublisher;
+    private final RedisTemplate<String, String> redisTemplate;
+
+    @Value("${gathertree.redis.tree-ttl-seconds}")
+    private long treeTtlSeconds;
+
+    /* =========================
+       장식 업로드
+       ========================= */
+    public DirectUploadResponse issueDecorationUpload(String uuid) {
+        Tree tree = getTreeOrThrow(uuid);
+
+        // 빠른 거절 (최종 판정은 commit 시 Lua 스크립트에서 수행)
+        if (tree.getDecorations().size() >= TreeService.MAX_DECORATIONS) {
+            throw new GeneralException(ErrorStatus.DECORATION_LIMIT_EXCEEDED);
+        }
+
+        String uploadId = UUID.randomUUID().toString();
+
+        return new DirectUploadResponse(
+                uploadId,
+                s3PresignedService.generatePresignedPost(
+                        STAGING_PREFIX + decorationKey(uuid, uploadId),
+                        PngImageSpec.DECORATION.getMaxBytes()
+                )
+        );
+    }
+
+    /**
+     * 장식 확정
+     * - uploadId가 곧 decorationId (재시도 시 기존 결과 반환)
+     * - 동시 재시도도 저장소 append가 ID 기준으로 한 번만 반영
+     */
+    public DecorationCreateResponse commitDecoration(String uuid, DecorationCommitRequest request) {
+        String decorationId = requireUploadId(request.getUploadId());
+        Tree tree = getTreeOrThrow(uuid);
+
+        // 1️⃣ 이미 확정된 업로드
+        Decoration existing = tree.getDecorations().stream()
+                .filter(d -> d.getId().equals(decorationId))
+                .findFirst()
+                .orElse(null);
+
+        if (existing != null) {
+            return new DecorationCreateResponse(decorationId, existing.getOrderIndex());
+        }
+
+        // 2️⃣ staging object 검증 → 최종 key로 복사 (동시 재시도가 먼저 복사했으면 생략)
+        String key = decorationKey(uuid, decorationId);
+        boolean created = !s3ImageService.exists(key);
+        String imageUrl = created
+                ? promote(key, PngImageSpec.DECORATION)
+                : s3ImageService.urlOf(key);
+
+        // 3️⃣ 개수 제한 + orderIndex 부여 (원자적, 같은 ID는 한 번만 추가)
+        Decoration decoration = Decoration.builder()
+                .id(decorationId)
+                .authorName(request.getAuthorName())
+                .imageUrl(imageUrl)
+                .createdAt(LocalDateTime.now())
+                .build();
+
+        int orderIndex;
+        try {
+            orderIndex = treeRepository.appendDecoration(uuid, decoration, TreeService.MAX_DECORATIONS);
+        } catch (GeneralException e) {
+            // 이 요청이 만든 object이고 트리에 반영되지 않았을 때만 정리
+            if (created && !containsDecoration(uuid, decorationId)) {
+                deleteQuietly(key);
+            }
+            throw e;
+        }
+
+        treeEventPublisher.publish(
+                TreeEvent.of(uuid, TreeEventType.DECORATION_ADDED, decorationId)
+        );
+
+        return new DecorationCreateResponse(decorationId, orderIndex);
+    }
+
+    /* =========================
+       트리 이미지 업로드
+       ========================= */
+    public DirectUploadResponse issueBaseUpload(String uuid) {
+        getTreeOrThrow(uuid);
+
+        String uploadId = UUID.randomUUID().toString();
+
+        return new DirectUploadResponse(
+                uploadId,
+                s3PresignedService.generatePresignedPost(
+                        STAGING_PREFIX + baseKey(uuid, uploadId),
+                        PngImageSpec.TREE.getMaxBytes()
+                )
+        );
+    }
+
+    /**
+     * 트리 이미지 확정
+     * - 업로드마다 key가 다르므로 CDN / 이미지 캐시 무효화가 필요 없음
+     * - 확정 순서가 최신 (나중에 확정된 업로드가 반영됨)
+     * - 이미 확정된 uploadId 재시도는 무시 (그 사이 다른 이미지가 확정됐어도 되돌리지 않음)
+     */
+    public void commitBase(String uuid, BaseImageCommitRequest request) {
+        String uploadId = requireUploadId(request.getUploadId());
+        getTreeOrThrow(uuid);
+
+        // 1️⃣ 이미 확정된 업로드
+        if (Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(committedBaseKey(uuid), uploadId))) {
+            return;
+        }
+
+        // 2️⃣ staging object 검증 → 최종 key로 복사
+        String key = baseKey(uuid, uploadId);
+        String imageUrl = promote(key, PngImageSpec.TREE);
+
+        // 3️⃣ 읽은 베이스 이미지가 그대로일 때만 교체 (동시 확정 시 다시 읽어서 재시도)
+        for (int attempt = 0; attempt < MAX_COMMIT_ATTEMPTS; attempt++) {
+            String previousUrl = getTreeOrThrow(uuid).getBaseImageUrl();
+
+            // 같은 uploadId의 동시 재시도가 먼저 반영
+            if (imageUrl.equals(previousUrl)) {
+                return;
+            }
+
+            if (treeRepository.compareAndSetBaseImageUrl(uuid, previousUrl, imageUrl)) {
+                markCommitted(uuid, uploadId);
+
+                treeEventPublisher.publish(TreeEvent.of(uuid, TreeEventType.BASE_UPDATED));
+
+                // 교체에 성공한 요청만 이전 업로드 정리
+                deletePreviousUpload(uuid, previousUrl);
+                return;
+            }
+        }
+
+        throw new GeneralException(
+                ErrorStatus.INTERNAL_SERVER_ERROR,
+                "동시 수정 요청이 많아 트리를 저장하지 못했습니다."
+        );
+    }
+
+    private void markCommitted(String uuid, String uploadId) {
+        String key = committedBaseKey(uuid);
+        redisTemplate.opsForSet().add(key, uploadId);
+        redisTemplate.expire(key, Duration.ofSeconds(treeTtlSeconds));
+    }
+
+    /* =========================
+       내부 로직
+       ========================= */
+
+    /**
+     * staging object 검증 후 최종 key로 복사
+     * - 규격 위반 시 staging object 삭제 후 예외
+     *
+     * @param key 최종 object key
+     * @return 최종 public URL
+     */
+    private String promote(String key, PngImageSpec spec) {
+        String stagingKey = STAGING_PREFIX + key;
+        UploadedImage uploaded = s3ImageService.inspectUploaded(stagingKey);
+
+        if (uploaded == null) {
+            // 동시 재시도가 먼저 복사하고 staging object를 정리한 경우
+            if (s3ImageService.exists(key)) {
+                return s3ImageService.urlOf(key);
+            }
+            throw new GeneralException(ErrorStatus.BAD_REQUEST, "업로드된 이미지가 없습니다.");
+        }
+
+        String imageUrl;
+        try {
+            if (!"image/png".equals(uploaded.contentType())) {
+                throw new GeneralException(ErrorStatus.INVALID_IMAGE_FORMAT);
+            }
+
+            PngImageValidator.validate(uploaded.header(), uploaded.size(), spec);
+
+            imageUrl = s3ImageService.copyVerified(stagingKey, key, uploaded);
+
+        } catch (GeneralException e) {
+            deleteQuietly(stagingKey);
+            throw e;
+        }
+
+        deleteQuietly(stagingKey);
+        return imageUrl;
+    }
+
+    /**
+     * 이전 업로드(base-{id}.png)만 삭제
+     * - base.png는 multipart / JSON 수정에서 덮어쓰므로 유지
+     */
+    private void deletePreviousUpload(String uuid, String previousUrl) {
+        String prefix = "trees/" + uuid + "/base-";
+        try {
+            String previousKey = s3ImageService.keyOf(previousUrl);
+            if (previousKey.startsWith(prefix)) {
+                deleteQuietly(previousKey);
+            }
+        } catch (GeneralException e) {
+            log.warn("[TreeUpload] 이전 베이스 이미지 정리 생략 url={}", previousUrl);
+        }
+    }
+
+    private boolean containsDecoration(String uuid, String decorationId) {
+        return treeRepository.findByUuid(uuid)
+                .map(tree -> tree.getDecorations().stream().anyMatch(d -> d.getId().equals(decorationId)))
+                .orElse(false);
+    }
+
+    private void deleteQuietly(String key) {
+        try {
+            s3ImageService.delete(key);
+        } catch (Exception e) {
+            log.warn("[TreeUpload] object 삭제 실패 key={}", key, e);
+        }
+    }
+
+    private static String requireUploadId(String uploadId) {
+        try {
+            // key 조작 방지 (UUID 형식만 허용)
+            return UUID.fromString(uploadId).toString();
+        } catch (IllegalArgumentException e) {
+            throw new GeneralException(ErrorStatus.BAD_REQUEST, "uploadId 형식이 올바르지 않습니다.");
+        }
+    }
+
+    private static String committedBaseKey(String uuid) {
+        return "tree:" + uuid + ":base-uploads";
+    }
+
+    private static String decorationKey(String uuid, String decorationId) {
+        return "trees/" + uuid + "/decorations/" + decorationId + ".png";
+    }
+
+    private static String baseKey(String uuid, String uploadId) {
+        return "trees/" + uuid + "/base-" + uploadId + ".png";
+    }
+
+    private Tree getTreeOrThrow(String uuid) {
+        return treeRepository.findByUuid(uuid)
+                .orElseThrow(() -> new GeneralException(ErrorStatus.TREE_NOT_FOUND));
+    }
+}
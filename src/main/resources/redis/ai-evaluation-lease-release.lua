@@ -0,0 +1,15 @@
+-- AI 평가 lease 해제
+-- 내가 잡은 lease일 때만 삭제 (만료 후 다른 인스턴스가 잡은 lease는 유지)
+--
+-- KEYS[1] : tree:{uuid}:evaluation:{mode}:lease
+-- ARGV[1] : lease token
+--
+-- 반환값
+--  1 : 해제
+--  0 : 내 lease가 아님 (이미 만료)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('DEL', KEYS[1])
+end
+
+return 0
@@ -0,0 +1,16 @@
+-- AI 평가 lease 연장 (watchdog)
+-- 내가 잡은 lease일 때만 만료 시간 갱신
+--
+-- KEYS[1] : tree:{uuid}:evaluation:{mode}:lease
+-- ARGV[1] : lease token
+-- ARGV[2] : lease ttl (ms)
+--
+-- 반환값
+--  1 : 연장
+--  0 : 내 lease가 아님 (이미 만료)
+
+if redis.call('GET', KEYS[1]) == ARGV[1] then
+    return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+end
+
+return 0
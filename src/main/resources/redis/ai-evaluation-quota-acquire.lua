@@ -0,0 +1,23 @@
+-- AI 평가 전역 quota 획득
+-- 남은 수량 안에서만 INCRBY (한도를 넘는 순간이 없음)
+--
+-- KEYS[1] : ai:evaluation:count
+-- ARGV[1] : 전역 한도
+-- ARGV[2] : 요청 수량 (lease 모드에서는 배치 크기)
+--
+-- 반환값
+--  { 획득한 수량, 남은 수량 }
+--  획득한 수량이 0 이면 한도 소진
+
+local limit = tonumber(ARGV[1])
+local requested = tonumber(ARGV[2])
+local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+local granted = math.min(requested, limit - count)
+if granted <= 0 then
+    return { 0, math.max(limit - count, 0) }
+end
+
+redis.call('INCRBY', KEYS[1], granted)
+
+return { granted, limit - count - granted }
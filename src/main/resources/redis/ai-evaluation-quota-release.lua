@@ -0,0 +1,19 @@
+-- AI 평가 전역 quota 반환
+-- 평가 실패 / 사용하지 않은 lease 반환 (0 아래로 내려가지 않음)
+--
+-- KEYS[1] : ai:evaluation:count
+-- ARGV[1] : 전역 한도
+-- ARGV[2] : 반환 수량
+--
+-- 반환값
+--  남은 수량
+
+local limit = tonumber(ARGV[1])
+local count = tonumber(redis.call('GET', KEYS[1]) or '0')
+
+local released = math.min(tonumber(ARGV[2]), count)
+if released > 0 then
+    redis.call('DECRBY', KEYS[1], released)
+end
+
+return limit - (count - released)
@@ -0,0 +1,83 @@
+-- 장식 추가 (원자적 append, 바이너리 형식 v1)
+-- 형식은 BinaryTreeCodec 참고
+-- 같은 ID의 장식이 이미 있으면 추가하지 않고 기존 orderIndex 반환 (commit 재시도)
+--
+-- KEYS[1] : tree:{uuid}
+-- KEYS[2] : tree:{uuid}:revision
+-- ARGV[1] : 추가할 장식 레코드 (첫 byte orderIndex는 스크립트에서 부여)
+-- ARGV[2] : 최대 장식 개수
+-- ARGV[3] : updatedAt (i64 big-endian epoch millis)
+-- ARGV[4] : TTL (seconds)
+--
+-- 반환값
+--  0 이상 : 부여된 orderIndex
+--  -1     : 트리 없음
+--  -2     : 장식 개수 초과
+--  -6     : 저장된 값이 다른 형식 (호출 측에서 읽기 → 변경 → 저장으로 처리)
+
+local data = redis.call('GET', KEYS[1])
+if not data then
+    return -1
+end
+
+-- 고정 헤더: version(1) | revision(2-9) | createdAt(10-17) | updatedAt(18-25) | count(26)
+if string.byte(data, 1) ~= 1 or #data < 26 then
+    return -6
+end
+
+-- text(tag + 값) 다음 위치
+local function skip_text(s, pos)
+    local tag = string.byte(s, pos)
+    if tag == 0 then
+        return pos + 1
+    end
+    if tag == 2 then
+        return pos + 17
+    end
+
+    -- varint 길이
+    local length, scale = 0, 1
+    pos = pos + 1
+    while true do
+        local b = string.byte(s, pos)
+        pos = pos + 1
+        length = length + (b % 128) * scale
+        if b < 128 then
+            break
+        end
+        scale = scale * 128
+    end
+    return pos + length
+end
+
+local count = string.byte(data, 26)
+
+-- 장식 레코드: orderIndex(1) | id | authorName | imageUrl | createdAt(8)
+local id = string.sub(ARGV[1], 2, skip_text(ARGV[1], 2) - 1)
+local pos = skip_text(data, skip_text(data, 27))
+for _ = 1, count do
+    local id_end = skip_text(data, pos + 1)
+    if string.sub(data, pos + 1, id_end - 1) == id then
+        return string.byte(data, pos)
+    end
+    pos = skip_text(data, skip_text(data, id_end)) + 8
+end
+
+if count >= tonumber(ARGV[2]) then
+    return -2
+end
+
+local revision = struct.unpack('>i8', data, 2) + 1
+
+local tree = string.sub(data, 1, 1)
+        .. struct.pack('>i8', revision)
+        .. string.sub(data, 10, 17)
+        .. ARGV[3]
+        .. string.char(count + 1)
+        .. string.sub(data, 27)
+        .. string.char(count)
+        .. string.sub(ARGV[1], 2)
+
+redis.call('SET', KEYS[1], tree, 'EX', tonumber(ARGV[4]))
+redis.call('SET', KEYS[2], revision, 'EX', tonumber(ARGV[4]))
+return count
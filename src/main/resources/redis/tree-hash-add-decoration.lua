@@ -0,0 +1,41 @@
+-- 장식 추가 (hash + zset 레이아웃)
+-- 같은 ID의 장식이 이미 있으면 추가하지 않고 기존 orderIndex 반환 (commit 재시도)
+--
+-- KEYS[1] : tree:{uuid}:meta            (hash)
+-- KEYS[2] : tree:{uuid}:decorations     (zset, score = orderIndex)
+-- KEYS[3] : tree:{uuid}:decoration-data (hash, 장식 ID → Decoration JSON)
+-- ARGV[1] : 장식 ID
+-- ARGV[2] : Decoration JSON
+-- ARGV[3] : 최대 장식 개수
+-- ARGV[4] : updatedAt
+-- ARGV[5] : TTL (seconds)
+--
+-- 반환값
+--  0 이상 : 부여된 orderIndex
+--  -1     : 트리 없음
+--  -2     : 장식 개수 초과
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local existing = redis.call('ZSCORE', KEYS[2], ARGV[1])
+if existing then
+    return tonumber(existing)
+end
+
+local count = redis.call('ZCARD', KEYS[2])
+if count >= tonumber(ARGV[3]) then
+    return -2
+end
+
+redis.call('ZADD', KEYS[2], count, ARGV[1])
+redis.call('HSET', KEYS[3], ARGV[1], ARGV[2])
+redis.call('HSET', KEYS[1], 'updatedAt', ARGV[4])
+redis.call('HINCRBY', KEYS[1], 'revision', 1)
+
+for i = 1, 3 do
+    redis.call('EXPIRE', KEYS[i], tonumber(ARGV[5]))
+end
+
+return count
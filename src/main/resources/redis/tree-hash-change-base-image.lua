@@ -0,0 +1,29 @@
+-- 트리 베이스 이미지 변경 (hash + zset 레이아웃)
+--
+-- KEYS[1..3] : meta / decorations / decoration-data
+-- ARGV[1]    : baseImageUrl
+-- ARGV[2]    : updatedAt
+-- ARGV[3]    : TTL (seconds)
+-- ARGV[4]    : 기대하는 현재 baseImageUrl ('' 이면 확인하지 않음)
+--
+-- 반환값
+--  0  : 성공
+--  -1 : 트리 없음
+--  -5 : 현재 baseImageUrl 불일치 (다른 요청이 먼저 수정함)
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+if ARGV[4] ~= '' and redis.call('HGET', KEYS[1], 'baseImageUrl') ~= ARGV[4] then
+    return -5
+end
+
+redis.call('HSET', KEYS[1], 'baseImageUrl', ARGV[1], 'updatedAt', ARGV[2])
+redis.call('HINCRBY', KEYS[1], 'revision', 1)
+
+for i = 1, 3 do
+    redis.call('EXPIRE', KEYS[i], tonumber(ARGV[3]))
+end
+
+return 0
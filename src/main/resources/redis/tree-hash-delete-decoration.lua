@@ -0,0 +1,37 @@
+-- 장식 삭제 (hash + zset 레이아웃)
+-- 남은 장식의 score(orderIndex)를 0부터 다시 부여
+--
+-- KEYS[1..3] : meta / decorations / decoration-data
+-- ARGV[1]    : 장식 ID
+-- ARGV[2]    : updatedAt
+-- ARGV[3]    : TTL (seconds)
+--
+-- 반환값
+--  0  : 성공
+--  -1 : 트리 없음
+--  -4 : 장식 없음
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+if not redis.call('ZSCORE', KEYS[2], ARGV[1]) then
+    return -4
+end
+
+redis.call('ZREM', KEYS[2], ARGV[1])
+redis.call('HDEL', KEYS[3], ARGV[1])
+
+local ids = redis.call('ZRANGE', KEYS[2], 0, -1)
+for i, id in ipairs(ids) do
+    redis.call('ZADD', KEYS[2], i - 1, id)
+end
+
+redis.call('HSET', KEYS[1], 'updatedAt', ARGV[2])
+redis.call('HINCRBY', KEYS[1], 'revision', 1)
+
+for i = 1, 3 do
+    redis.call('EXPIRE', KEYS[i], tonumber(ARGV[3]))
+end
+
+return 0
@@ -0,0 +1,47 @@
+-- 장식 순서 변경 (hash + zset 레이아웃)
+-- zset score만 갱신하고 장식 데이터는 건드리지 않음
+--
+-- KEYS[1..3] : meta / decorations / decoration-data
+-- ARGV[1]    : updatedAt
+-- ARGV[2]    : TTL (seconds)
+-- ARGV[3..]  : 새 순서의 장식 ID 목록
+--
+-- 반환값
+--  0  : 성공
+--  -1 : 트리 없음
+--  -3 : 장식 개수 불일치 (중복 ID 포함)
+--  -4 : 존재하지 않는 장식 ID
+
+if redis.call('EXISTS', KEYS[1]) == 0 then
+    return -1
+end
+
+local size = #ARGV - 2
+if redis.call('ZCARD', KEYS[2]) ~= size then
+    return -3
+end
+
+local seen = {}
+for i = 3, #ARGV do
+    if seen[ARGV[i]] then
+        return -3
+    end
+    seen[ARGV[i]] = true
+
+    if not redis.call('ZSCORE', KEYS[2], ARGV[i]) then
+        return -4
+    end
+end
+
+for i = 3, #ARGV do
+    redis.call('ZADD', KEYS[2], i - 3, ARGV[i])
+end
+
+redis.call('HSET', KEYS[1], 'updatedAt', ARGV[1])
+redis.call('HINCRBY', KEYS[1], 'revision', 1)
+
+for i = 1, 3 do
+    redis.call('EXPIRE', KEYS[i], tonumber(ARGV[2]))
+end
+
+return 0
@@ -0,0 +1,54 @@
+-- 장식 추가 (원자적 append)
+-- 같은 ID의 장식이 이미 있으면 추가하지 않고 기존 orderIndex 반환 (commit 재시도)
+--
+-- KEYS[1] : tree:{uuid}
+-- KEYS[2] : tree:{uuid}:revision
+-- ARGV[1] : 추가할 Decoration JSON (orderIndex는 스크립트에서 부여)
+-- ARGV[2] : 최대 장식 개수
+-- ARGV[3] : updatedAt (JSON 값)
+-- ARGV[4] : TTL (seconds)
+--
+-- 반환값
+--  0 이상 : 부여된 orderIndex
+--  -1     : 트리 없음
+--  -2     : 장식 개수 초과
+--  -6     : 저장된 값이 다른 형식 (호출 측에서 읽기 → 변경 → 저장으로 처리)
+
+local json = redis.call('GET', KEYS[1])
+if not json then
+    return -1
+end
+
+if string.sub(json, 1, 1) ~= '{' then
+    return -6
+end
+
+local tree = cjson.decode(json)
+local decorations = tree['decorations']
+if type(decorations) ~= 'table' then
+    decorations = {}
+end
+
+local decoration = cjson.decode(ARGV[1])
+for _, existing in ipairs(decorations) do
+    if existing['id'] == decoration['id'] then
+        return tonumber(existing['orderIndex'])
+    end
+end
+
+local count = #decorations
+if count >= tonumber(ARGV[2]) then
+    return -2
+end
+
+decoration['orderIndex'] = count
+decorations[count + 1] = decoration
+
+tree['decorations'] = decorations
+tree['updatedAt'] = cjson.decode(ARGV[3])
+local revision = (tonumber(tree['revision']) or 0) + 1
+tree['revision'] = revision
+
+redis.call('SET', KEYS[1], cjson.encode(tree), 'EX', tonumber(ARGV[4]))
+redis.call('SET', KEYS[2], revision, 'EX', tonumber(ARGV[4]))
+return count
@@ -0,0 +1,25 @@
+-- 트리 저장 (JSON blob 레이아웃)
+-- blob과 revision 키를 함께 기록
+--
+-- KEYS[1] : tree:{uuid}
+-- KEYS[2] : tree:{uuid}:revision
+-- ARGV[1] : Tree JSON
+-- ARGV[2] : 저장할 revision
+-- ARGV[3] : TTL (seconds)
+-- ARGV[4] : 기대하는 직전 revision ('' 이면 확인하지 않음)
+--
+-- 반환값
+--  0 이상 : 저장된 revision
+--  -5     : revision 충돌 (다른 요청이 먼저 수정함)
+
+if ARGV[4] ~= '' then
+    local current = tonumber(redis.call('GET', KEYS[2]) or '0')
+    if current ~= tonumber(ARGV[4]) then
+        return -5
+    end
+end
+
+redis.call('SET', KEYS[1], ARGV[1], 'EX', tonumber(ARGV[3]))
+redis.call('SET', KEYS[2], ARGV[2], 'EX', tonumber(ARGV[3]))
+
+return tonumber(ARGV[2])
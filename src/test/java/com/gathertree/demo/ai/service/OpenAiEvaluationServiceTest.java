@@ -0,0 +1,144 @@
+package com.gathertree.demo.ai.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gathertree.demo.ai.dto.TreeEvaluationResponse;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class OpenAiEvaluationServiceTest {
+
+    private static final String SUCCESS_BODY = """
+            {
+              "output": [
+                {"type": "reasoning", "content": []},
+                {"type": "message", "content": [
+                  {"type": "output_text",
+                   "text": "{\\"score\\": 87, \\"title\\": \\"반짝이는 트리\\", \\"summary\\": \\"좋아요\\", \\"comments\\": [\\"a\\", \\"b\\", \\"c\\", \\"d\\"]}"}
+                ]}
+              ]
+            }
+            """;
+
+    private HttpServer server;
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop(0);
+    }
+
+    @Test
+    void evaluate_parsesOutputText() {
+        respond(200, SUCCESS_BODY, 0);
+
+        TreeEvaluationResponse response = service(Duration.ofSeconds(5))
+                .evaluate("https://cdn.example.com/eval/public/a.png", "mild");
+
+        assertThat(response.getScore()).isEqualTo(87);
+        assertThat(response.getTitle()).isEqualTo("반짝이는 트리");
+        assertThat(response.getComments()).containsExactly("a", "b", "c", "d");
+    }
+
+    @Test
+    void evaluate_upstreamError_throwsAiApiError() {
+        respond(500, "{\"error\": \"boom\"}", 0);
+
+        assertThatThrownBy(() -> service(Duration.ofSeconds(5)).evaluate("https://x/a.png", "spicy"))
+                .isInstanceOf(GeneralException.class)
+                .extracting(e -> ((GeneralException) e).getErrorStatus())
+                .isEqualTo(ErrorStatus.AI_API_ERROR);
+    }
+
+    @Test
+    void evaluate_slowUpstream_isBoundedByTimeout() {
+        respond(200, SUCCESS_BODY, 2_000);
+
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> service(Duration.ofMillis(300)).evaluate("https://x/a.png", "mild"))
+                .isInstanceOf(GeneralException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+    }
+
+    @Test
+    void evaluate_stalledBody_cancelsExchange() throws Exception {
+        CountDownLatch connectionClosed = new CountDownLatch(1);
+
+        // 헤더와 본문 일부만 보낸 뒤 멈춤 (클라이언트가 끊으면 쓰기 실패)
+        server.createContext("/v1/responses", exchange -> {
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, 0);
+            OutputStream out = exchange.getResponseBody();
+            try {
+                out.write("{\"output\": [".getBytes(StandardCharsets.UTF_8));
+                out.flush();
+                for (int i = 0; i < 100; i++) {
+                    Thread.sleep(50);
+                    out.write(' ');
+                    out.flush();
+                }
+            } catch (IOException e) {
+                connectionClosed.countDown();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        long start = System.nanoTime();
+
+        assertThatThrownBy(() -> service(Duration.ofMillis(300)).evaluate("https://x/a.png", "mild"))
+                .isInstanceOf(GeneralException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(connectionClosed.await(2, TimeUnit.SECONDS)).isTrue();
+    }
+
+    private OpenAiEvaluationService service(Duration requestTimeout) {
+        return new OpenAiEvaluationService(
+                new ObjectMapper(),
+                "test-key",
+                "test-model",
+                "http://127.0.0.1:" + server.getAddress().getPort(),
+                Duration.ofSeconds(1),
+                requestTimeout
+        );
+    }
+
+    private void respond(int status, String body, long delayMillis) {
+        server.createContext("/v1/responses", exchange -> {
+            try {
+                Thread.sleep(delayMillis);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+
+            byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        });
+    }
+}
@@ -0,0 +1,80 @@
+package com.gathertree.demo.global.util;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class Base64ImageUtilTest {
+
+    private static final String PREFIX = "data:image/png;base64,";
+
+    @Test
+    void decode_paddedAndUnpaddedLengths() {
+        // 길이 % 3 = 0, 1, 2 → 패딩 0, 2, 1개
+        for (int length = 1; length <= 10; length++) {
+            byte[] image = bytes(length);
+
+            assertThat(decode(PREFIX + Base64.getEncoder().encodeToString(image), Integer.MAX_VALUE))
+                    .isEqualTo(image);
+            assertThat(decode(PREFIX + Base64.getEncoder().withoutPadding().encodeToString(image), Integer.MAX_VALUE))
+                    .isEqualTo(image);
+        }
+    }
+
+    @Test
+    void decode_usesOnlyGivenRange() {
+        byte[] image = bytes(5);
+        String value = PREFIX + Base64.getEncoder().encodeToString(image);
+        char[] chars = ("{\"imageBase64\":\"" + value + "\"}").toCharArray();
+
+        assertThat(Base64ImageUtil.decode(chars, 16, value.length(), Integer.MAX_VALUE)).isEqualTo(image);
+    }
+
+    @Test
+    void decode_maxBytesBoundary() {
+        String value = PREFIX + Base64.getEncoder().encodeToString(bytes(4));
+
+        assertThat(decode(value, 4)).hasSize(4);
+        assertError(() -> decode(value, 3), ErrorStatus.IMAGE_TOO_LARGE);
+    }
+
+    @Test
+    void decode_rejectsMissingPrefixOrComma() {
+        assertError(() -> decode("AAAA", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode("data:text/plain;base64,AAAA", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode("data:image/png;base64AAAA", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+    }
+
+    @Test
+    void decode_rejectsInvalidLengthOrCharacters() {
+        assertError(() -> decode(PREFIX, Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode(PREFIX + "AAAAA", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode(PREFIX + "A===", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode(PREFIX + "AA*A", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+        assertError(() -> decode(PREFIX + "AAé=", Integer.MAX_VALUE), ErrorStatus.INVALID_IMAGE_FORMAT);
+    }
+
+    private static byte[] decode(String value, int maxBytes) {
+        char[] chars = value.toCharArray();
+        return Base64ImageUtil.decode(chars, 0, chars.length, maxBytes);
+    }
+
+    private static byte[] bytes(int length) {
+        byte[] bytes = new byte[length];
+        for (int i = 0; i < length; i++) {
+            bytes[i] = (byte) (i * 37 + 11);
+        }
+        return bytes;
+    }
+
+    private static void assertError(Runnable call, ErrorStatus status) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorStatus()).isEqualTo(status));
+    }
+}
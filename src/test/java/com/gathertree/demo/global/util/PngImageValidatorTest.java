@@ -0,0 +1,95 @@
+package com.gathertree.demo.global.util;
+
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import org.junit.jupiter.api.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PngImageValidatorTest {
+
+    @Test
+    void validate_acceptsSpecImage() {
+        byte[] image = png(32, 32);
+
+        assertThatCode(() -> PngImageValidator.validate(image, PngImageSpec.DECORATION))
+                .doesNotThrowAnyException();
+    }
+
+    @Test
+    void validate_headerOnlyWithTotalSize() {
+        byte[] header = Arrays.copyOf(png(160, 192), 33);
+
+        assertThatCode(() -> PngImageValidator.validate(header, 200 * 1024, PngImageSpec.TREE))
+                .doesNotThrowAnyException();
+        assertError(
+                () -> PngImageValidator.validate(header, PngImageSpec.TREE.getMaxBytes() + 1, PngImageSpec.TREE),
+                ErrorStatus.IMAGE_TOO_LARGE
+        );
+    }
+
+    @Test
+    void validate_rejectsBadSignature() {
+        byte[] image = png(32, 32);
+        image[1] = 'J';
+
+        assertError(() -> PngImageValidator.validate(image, PngImageSpec.DECORATION), ErrorStatus.INVALID_IMAGE_FORMAT);
+    }
+
+    @Test
+    void validate_rejectsBadIhdrCrc() {
+        byte[] image = png(32, 32);
+        image[29] ^= 0x01;
+
+        assertError(() -> PngImageValidator.validate(image, PngImageSpec.DECORATION), ErrorStatus.INVALID_IMAGE_FORMAT);
+    }
+
+    @Test
+    void validate_rejectsWrongDimensions() {
+        byte[] image = png(33, 32);
+
+        assertThatThrownBy(() -> PngImageValidator.validate(image, PngImageSpec.DECORATION))
+                .isInstanceOfSatisfying(GeneralException.class, e -> {
+                    assertThat(e.getErrorStatus()).isEqualTo(ErrorStatus.INVALID_IMAGE_FORMAT);
+                    assertThat(e.getData()).asString().contains("32×32");
+                });
+    }
+
+    @Test
+    void validate_rejectsTruncatedHeader() {
+        byte[] header = Arrays.copyOf(png(32, 32), 32);
+
+        assertError(() -> PngImageValidator.validate(header, PngImageSpec.DECORATION), ErrorStatus.INVALID_IMAGE_FORMAT);
+    }
+
+    @Test
+    void validate_rejectsOversizedImage() {
+        byte[] image = Arrays.copyOf(png(32, 32), PngImageSpec.DECORATION.getMaxBytes() + 1);
+
+        assertError(() -> PngImageValidator.validate(image, PngImageSpec.DECORATION), ErrorStatus.IMAGE_TOO_LARGE);
+    }
+
+    static byte[] png(int width, int height) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB), "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void assertError(Runnable call, ErrorStatus status) {
+        assertThatThrownBy(call::run)
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorStatus()).isEqualTo(status));
+    }
+}
@@ -0,0 +1,74 @@
+package com.gathertree.demo.tree.repository;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BinaryTreeCodecTest {
+
+    private static final String PUBLIC_URL = "https://cdn.example.com";
+
+    private final BinaryTreeCodec codec = new BinaryTreeCodec(PUBLIC_URL);
+
+    @Test
+    void encode_roundTripsTree() {
+        Tree tree = sampleTree();
+
+        Tree decoded = codec.decode(codec.encode(tree));
+
+        assertThat(decoded).usingRecursiveComparison().isEqualTo(tree);
+    }
+
+    @Test
+    void encode_isSmallerThanJson() throws Exception {
+        Tree tree = sampleTree();
+        ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+        byte[] binary = codec.encode(tree);
+        byte[] json = new JsonTreeCodec(objectMapper).encode(tree);
+
+        assertThat(codec.canDecode(binary)).isTrue();
+        assertThat(codec.canDecode(json)).isFalse();
+        assertThat(binary.length).isLessThan(json.length / 2);
+    }
+
+    private static Tree sampleTree() {
+        String uuid = UUID.randomUUID().toString();
+        String decorationId = UUID.randomUUID().toString();
+
+        // epoch millis로 저장하므로 ms 단위까지만 사용
+        LocalDateTime now = LocalDateTime.of(2026, 12, 24, 21, 30, 15, 123_000_000);
+
+        return Tree.builder()
+                .uuid(uuid)
+                .baseImageUrl(PUBLIC_URL + "/trees/" + uuid + "/base.png")
+                .decorations(List.of(
+                        Decoration.builder()
+                                .id(decorationId)
+                                .authorName("루돌프 🦌")
+                                .imageUrl(PUBLIC_URL + "/trees/" + uuid + "/decorations/" + decorationId + ".png")
+                                .orderIndex(0)
+                                .createdAt(now)
+                                .build(),
+                        Decoration.builder()
+                                .id("legacy-id")
+                                .authorName("눈사람")
+                                .imageUrl("https://elsewhere.example.com/snowman.png")
+                                .orderIndex(1)
+                                .createdAt(null)
+                                .build()
+                ))
+                .createdAt(now)
+                .updatedAt(now.plusMinutes(5))
+                .revision(7)
+                .build();
+    }
+}
@@ -0,0 +1,270 @@
+package com.gathertree.demo.tree.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gathertree.demo.global.response.exception.GeneralException;
+import com.gathertree.demo.global.response.status.ErrorStatus;
+import com.gathertree.demo.tree.controller.ReactiveTreeController;
+import com.gathertree.demo.tree.dto.request.TreeBatchRequest;
+import com.gathertree.demo.tree.dto.response.TreeBatchResponse;
+import com.gathertree.demo.tree.model.Decoration;
+import com.gathertree.demo.tree.model.Tree;
+import com.gathertree.demo.tree.repository.BinaryTreeCodec;
+import com.gathertree.demo.tree.repository.JsonTreeCodec;
+import com.gathertree.demo.tree.repository.NearCacheReactiveTreeReader;
+import com.gathertree.demo.tree.repository.RedisJsonReactiveTreeReader;
+import com.gathertree.demo.tree.repository.RedisJsonTreeRepository;
+import com.gathertree.demo.tree.repository.TreeCodec;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.ReactiveRedisTemplate;
+import org.springframework.data.redis.core.ReactiveValueOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.reactive.server.WebTestClient;
+import reactor.core.publisher.Mono;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * servlet / reactive 조회 경로가 같은 저장 데이터에 대해 같은 응답을 만드는지 확인
+ * - Redis 값 조회만 mock (in-memory map), 디코딩은 실제 저장소 / reader 구현이 수행
+ * - JSON / 바이너리 codec으로 저장된 트리를 섞어서 확인
+ */
+class TreeReadParityTest {
+
+    private static final String PUBLIC_URL = "https://cdn.example.com";
+
+    private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+    private final JsonTreeCodec jsonCodec = new JsonTreeCodec(objectMapper);
+    private final BinaryTreeCodec binaryCodec = new BinaryTreeCodec(PUBLIC_URL);
+    private final List<TreeCodec> readableCodecs = List.of(jsonCodec, binaryCodec);
+
+    // Redis 값 (key → bytes)
+    private final Map<String, byte[]> redis = new HashMap<>();
+
+    private TreeService treeService;
+    private ReactiveTreeService reactiveTreeService;
+    private NearCacheReactiveTreeReader reactiveReader;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(values.get(any())).thenAnswer(inv -> redis.get(inv.<String>getArgument(0)));
+        when(values.multiGet(anyCollection())).thenAnswer(inv -> multiGet(inv.getArgument(0)));
+
+        ReactiveRedisTemplate<String, byte[]> reactiveTemplate = mock(ReactiveRedisTemplate.class);
+        ReactiveValueOperations<String, byte[]> reactiveValues = mock(ReactiveValueOperations.class);
+        when(reactiveTemplate.opsForValue()).thenReturn(reactiveValues);
+        when(reactiveValues.get(any()))
+                .thenAnswer(inv -> Mono.justOrEmpty(redis.get(inv.<String>getArgument(0))));
+        when(reactiveValues.multiGet(anyCollection()))
+                .thenAnswer(inv -> Mono.just(multiGet(inv.getArgument(0))));
+
+        RedisJsonTreeRepository repository =
+                new RedisJsonTreeRepository(redisTemplate, jsonCodec, readableCodecs, Duration.ofDays(1));
+        reactiveReader = new NearCacheReactiveTreeReader(
+                new RedisJsonReactiveTreeReader(reactiveTemplate, readableCodecs),
+                Caffeine.newBuilder().buildAsync()
+        );
+
+        TreeResponseMapper mapper = new TreeResponseMapper();
+
+        treeService = new TreeService(repository, null, newResponseCache(), mapper, null, null);
+        reactiveTreeService = new ReactiveTreeService(reactiveReader, newResponseCache(), mapper);
+    }
+
+    @Test
+    void getRenderedTree_sameBodyAndEtag() {
+        for (TreeCodec codec : readableCodecs) {
+            Tree tree = saveTree(codec, true);
+
+            RenderedTree servlet = treeService.getRenderedTree(tree.getUuid());
+            RenderedTree reactive = reactiveTreeService.getRenderedTree(tree.getUuid()).block();
+
+            assertThat(reactive).isNotNull();
+            assertThat(reactive.body()).isEqualTo(servlet.body());
+            assertThat(reactive.etag()).isEqualTo(servlet.etag()).isEqualTo(RenderedTree.etagOf(3));
+            assertThat(reactiveTreeService.getTreeEtag(tree.getUuid()).block())
+                    .isEqualTo(treeService.getTreeEtag(tree.getUuid()));
+        }
+    }
+
+    @Test
+    void getTreeEtag_withoutRevisionKey_fallsBackToTree() {
+        Tree tree = saveTree(binaryCodec, false);
+
+        assertThat(reactiveTreeService.getTreeEtag(tree.getUuid()).block())
+                .isEqualTo(treeService.getTreeEtag(tree.getUuid()))
+                .isEqualTo(RenderedTree.etagOf(3));
+    }
+
+    @Test
+    void getRenderedTree_missingTree() {
+        String uuid = UUID.randomUUID().toString();
+
+        assertThatThrownBy(() -> treeService.getRenderedTree(uuid))
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorStatus()).isEqualTo(ErrorStatus.TREE_NOT_FOUND));
+        assertThatThrownBy(() -> reactiveTreeService.getRenderedTree(uuid).block())
+                .isInstanceOfSatisfying(GeneralException.class,
+                        e -> assertThat(e.getErrorStatus()).isEqualTo(ErrorStatus.TREE_NOT_FOUND));
+    }
+
+    @Test
+    void getTrees_sameFoundAndMissing() throws Exception {
+        Tree first = saveTree(jsonCodec, true);
+        Tree second = saveTree(binaryCodec, true);
+        String missing = UUID.randomUUID().toString();
+
+        TreeBatchRequest request = objectMapper.readValue(
+                objectMapper.writeValueAsString(Map.of(
+                        "uuids", List.of(second.getUuid(), missing, first.getUuid(), second.getUuid())
+                )),
+                TreeBatchRequest.class
+        );
+
+        TreeBatchResponse servlet = treeService.getTrees(request);
+        TreeBatchResponse reactive = reactiveTreeService.getTrees(request).block();
+
+        assertThat(servlet.getFound()).containsOnlyKeys(second.getUuid(), first.getUuid());
+        assertThat(servlet.getMissing()).containsExactly(missing);
+        assertThat(objectMapper.writeValueAsString(reactive))
+                .isEqualTo(objectMapper.writeValueAsString(servlet));
+    }
+
+    @Test
+    void nearCache_servesUntilInvalidated() {
+        Tree tree = saveTree(jsonCodec, true);
+        reactiveTreeService.getRenderedTree(tree.getUuid()).block();
+
+        Tree updated = Tree.builder()
+                .uuid(tree.getUuid())
+                .baseImageUrl(tree.getBaseImageUrl())
+                .decorations(tree.getDecorations())
+                .createdAt(tree.getCreatedAt())
+                .updatedAt(tree.getUpdatedAt().plusMinutes(1))
+                .revision(4)
+                .build();
+        store(binaryCodec, updated, true);
+
+        assertThat(reactiveTreeService.getRenderedTree(tree.getUuid()).block().revision()).isEqualTo(3);
+
+        reactiveReader.onMessage(
+                new DefaultMessage(
+                        "tree:invalidate".getBytes(StandardCharsets.UTF_8),
+                        tree.getUuid().getBytes(StandardCharsets.UTF_8)
+                ),
+                null
+        );
+
+        RenderedTree reactive = reactiveTreeService.getRenderedTree(tree.getUuid()).block();
+        assertThat(reactive.revision()).isEqualTo(4);
+        assertThat(reactive.body()).isEqualTo(treeService.getRenderedTree(tree.getUuid()).body());
+    }
+
+    @Test
+    void reactiveController_etagAndNotModified() {
+        Tree tree = saveTree(binaryCodec, true);
+        RenderedTree servlet = treeService.getRenderedTree(tree.getUuid());
+
+        WebTestClient client = WebTestClient
+                .bindToController(new ReactiveTreeController(reactiveTreeService))
+                .build();
+
+        client.get().uri("/tree/{uuid}", tree.getUuid())
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, servlet.etag())
+                .expectBody(byte[].class).isEqualTo(servlet.body());
+
+        client.get().uri("/tree/{uuid}", tree.getUuid())
+                .header(HttpHeaders.IF_NONE_MATCH, servlet.etag())
+                .exchange()
+                .expectStatus().isNotModified()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, servlet.etag())
+                .expectBody().isEmpty();
+
+        client.get().uri("/tree/{uuid}", tree.getUuid())
+                .header(HttpHeaders.IF_NONE_MATCH, RenderedTree.etagOf(2))
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals(HttpHeaders.ETAG, servlet.etag());
+    }
+
+    private Tree saveTree(TreeCodec codec, boolean withRevisionKey) {
+        String uuid = UUID.randomUUID().toString();
+        LocalDateTime now = LocalDateTime.of(2026, 12, 24, 21, 0);
+
+        Tree tree = Tree.builder()
+                .uuid(uuid)
+                .baseImageUrl(PUBLIC_URL + "/trees/" + uuid + "/base.png")
+                .decorations(List.of(
+                        decoration(uuid, 1, "눈사람", now),
+                        decoration(uuid, 0, "루돌프", now)
+                ))
+                .createdAt(now)
+                .updatedAt(now)
+                .revision(3)
+                .build();
+
+        store(codec, tree, withRevisionKey);
+        return tree;
+    }
+
+    private void store(TreeCodec codec, Tree tree, boolean withRevisionKey) {
+        redis.put("tree:" + tree.getUuid(), codec.encode(tree));
+        if (withRevisionKey) {
+            redis.put(
+                    "tree:" + tree.getUuid() + ":revision",
+                    String.valueOf(tree.getRevision()).getBytes(StandardCharsets.US_ASCII)
+            );
+        }
+    }
+
+    private static Decoration decoration(String uuid, int orderIndex, String authorName, LocalDateTime createdAt) {
+        String id = UUID.randomUUID().toString();
+
+        return Decoration.builder()
+                .id(id)
+                .authorName(authorName)
+                .imageUrl(PUBLIC_URL + "/trees/" + uuid + "/decorations/" + id + ".png")
+                .orderIndex(orderIndex)
+                .createdAt(createdAt)
+                .build();
+    }
+
+    // MGET과 같이 없는 key는 null
+    private List<byte[]> multiGet(Collection<String> keys) {
+        List<byte[]> values = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            values.add(redis.get(key));
+        }
+        return values;
+    }
+
+    private TreeResponseCache newResponseCache() {
+        return new TreeResponseCache(objectMapper, new SimpleMeterRegistry(), true, 1 << 20);
+    }
+}